@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures {@code link -c} on a client that already has many appointments.
+ * The appointment linked by each operation is deleted again, so that the client keeps the same number of
+ * appointments. The bytes allocated per operation, as reported by the gc profiler of the jmh task, should be
+ * about the same for 50 and 500 appointments, since linking neither copies nor refilters the existing ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkAppointmentCreateCommandBenchmark {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+    private static final AppointmentId LINKED_ID = new AppointmentId("linked");
+
+    @Param({"50", "500"})
+    public int appointmentCount;
+
+    private Person client;
+    private Appointment toLink;
+    private Model model;
+
+    /**
+     * Creates a model with a client that has {@code appointmentCount} appointments.
+     */
+    @Setup
+    public void setUp() {
+        client = new PersonBuilder(ALICE).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(client);
+        LocalDateTime start = LocalDateTime.of(3000, 1, 1, 9, 0);
+        for (int i = 0; i < appointmentCount; i++) {
+            addressBook.addAppointment(new AppointmentBuilder()
+                .withId("existing" + i)
+                .withName(client.getName().toString())
+                .withDateTime(start.plusHours(2L * i).format(DATE_TIME_FORMAT))
+                .build());
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        toLink = new AppointmentBuilder()
+                .withName(client.getName().toString())
+                .withDateTime(start.minusYears(1).format(DATE_TIME_FORMAT))
+                .build();
+    }
+
+    /**
+     * Links an appointment to the client and deletes it again.
+     */
+    @Benchmark
+    public CommandResult linkAppointment() throws CommandException {
+        CommandResult result = new LinkAppointmentCreateCommand(client.getName(), toLink)
+                .setAppointmentId(LINKED_ID).execute(model);
+        model.deleteAppointment(model.getAppointmentById(LINKED_ID).get());
+        return result;
+    }
+}
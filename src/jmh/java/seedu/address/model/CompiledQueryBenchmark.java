@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
+import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures evaluating compiled find queries on one element at a time.
+ * Compiled queries are evaluated on every element of the lists being filtered, so the gc profiler of the jmh
+ * task should report close to zero bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledQueryBenchmark {
+
+    private Predicate<Person> personQuery;
+    private Person[] persons;
+    private Predicate<Appointment> appointmentQuery;
+    private Appointment[] appointments;
+    private int next;
+
+    /**
+     * Compiles the queries and the elements they are evaluated on.
+     */
+    @Setup
+    public void setUp() {
+        personQuery = PersonQuery.build()
+                .setName(new String[]{"meier", "kurz", "PAULINE"})
+                .setTags(Set.of(new Tag("friends")))
+                .setRank(new Rank("stable"))
+                .compile();
+        persons = getTypicalPersons().toArray(new Person[0]);
+        appointmentQuery = AppointmentQuery.build()
+                .setStatus(MEETING_APPT.getStatus())
+                .compile();
+        appointments = List.of(MEETING_APPT, DENTIST_APPT).toArray(new Appointment[0]);
+    }
+
+    /**
+     * Evaluates the person query on the next person.
+     */
+    @Benchmark
+    public boolean evaluatePersonQuery() {
+        next = (next + 1) % persons.length;
+        return personQuery.test(persons[next]);
+    }
+
+    /**
+     * Evaluates the appointment query on the next appointment.
+     */
+    @Benchmark
+    public boolean evaluateAppointmentQuery() {
+        next = (next + 1) % appointments.length;
+        return appointmentQuery.test(appointments[next]);
+    }
+}
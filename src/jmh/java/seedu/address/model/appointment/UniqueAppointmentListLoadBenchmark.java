@@ -0,0 +1,80 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+/**
+ * Measures loading 10,000 to 1,000,000 appointments into a list, both at once and one at a time as the storage
+ * does. Uniqueness is checked by hashing, so the time per appointment should stay about the same as the number
+ * of appointments grows, where a pairwise check would grow with it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniqueAppointmentListLoadBenchmark {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private List<Appointment> appointments;
+
+    /**
+     * Creates {@code size} appointments of 1,000 clients, one every half an hour.
+     */
+    @Setup
+    public void setUp() {
+        appointments = new ArrayList<>(size);
+        LocalDateTime start = DENTIST_APPT.getDateTime().dateTime;
+        for (int i = 0; i < size; i++) {
+            appointments.add(new AppointmentBuilder(DENTIST_APPT)
+                .withId(Integer.toString(i, 36))
+                .withName("Client " + (i % 1000))
+                .withDateTime(start.plusMinutes(30L * i).format(DATE_TIME_FORMAT))
+                .build());
+        }
+    }
+
+    /**
+     * Loads all the appointments into a new list at once.
+     */
+    @Benchmark
+    public UniqueAppointmentList loadAtOnce() {
+        UniqueAppointmentList list = new UniqueAppointmentList();
+        list.setAppointments(appointments);
+        return list;
+    }
+
+    /**
+     * Loads the appointments into a new list one at a time.
+     */
+    @Benchmark
+    public UniqueAppointmentList loadOneAtATime() {
+        UniqueAppointmentList list = new UniqueAppointmentList();
+        appointments.forEach(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures adding, looking up and replacing persons in lists of 1,000 to 100,000 persons.
+ * Each of these finds the person through the index of names, so the time per operation should stay about the
+ * same as the list grows, where a linear scan would make it about 100 times slower on the largest list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private UniquePersonList list;
+    private Person[] persons;
+    private Person[] editedPersons;
+    private Person personToAdd;
+    private int next;
+
+    /**
+     * Creates a list of {@code size} persons.
+     */
+    @Setup
+    public void setUp() {
+        list = new UniquePersonList();
+        persons = new Person[size];
+        editedPersons = new Person[size];
+        for (int i = 0; i < size; i++) {
+            persons[i] = new PersonBuilder().withName("Person " + i).build();
+            editedPersons[i] = new PersonBuilder(persons[i]).withAddress(VALID_ADDRESS_BOB).build();
+            list.add(persons[i]);
+        }
+        personToAdd = new PersonBuilder().withName("Person " + size).build();
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % size;
+        return next;
+    }
+
+    /**
+     * Adds a person to the end of the list and removes it again.
+     */
+    @Benchmark
+    public void addPerson() {
+        list.add(personToAdd);
+        list.remove(personToAdd);
+    }
+
+    /**
+     * Checks that the next person is in the list and looks it up by name.
+     */
+    @Benchmark
+    public Person lookUpPerson() {
+        Person person = persons[nextIndex()];
+        if (!list.contains(person)) {
+            throw new AssertionError(person + " is missing");
+        }
+        return list.getPerson(person.getName());
+    }
+
+    /**
+     * Replaces the next person with an edited copy and restores it.
+     */
+    @Benchmark
+    public void replacePerson() {
+        int index = nextIndex();
+        list.setPerson(persons[index], editedPersons[index]);
+        list.setPerson(editedPersons[index], persons[index]);
+    }
+}
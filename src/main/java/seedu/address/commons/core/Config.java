@@ -13,10 +13,13 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 50_000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private boolean isDataPrettyPrinted = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the number of clients or appointments from which finds are evaluated in parallel.
+     */
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Returns whether the json of the address book data file is indented, which makes it larger but readable.
+     */
+    public boolean isDataPrettyPrinted() {
+        return isDataPrettyPrinted;
+    }
+
+    public void setDataPrettyPrinted(boolean isDataPrettyPrinted) {
+        this.isDataPrettyPrinted = isDataPrettyPrinted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +72,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && parallelFilterThreshold == otherConfig.parallelFilterThreshold
+                && isDataPrettyPrinted == otherConfig.isDataPrettyPrinted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelFilterThreshold, isDataPrettyPrinted);
     }
 
     @Override
@@ -60,6 +87,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("parallelFilterThreshold", parallelFilterThreshold)
+                .add("isDataPrettyPrinted", isDataPrettyPrinted)
                 .toString();
     }
 
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalises equal immutable values to a single shared instance, so that a value that occurs many times
+ * is only kept in memory once and equality checks on it usually succeed on the reference alone.
+ * Values are held weakly, hence a value that is no longer used anywhere else can still be garbage collected.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if no equal value
+     * has been interned yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = canonicalValues.get(value);
+        T canonicalValue = reference == null ? null : reference.get();
+        if (canonicalValue == null) {
+            canonicalValues.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonicalValue;
+    }
+
+    /**
+     * Returns the number of canonical values currently held.
+     */
+    public synchronized int size() {
+        return canonicalValues.size();
+    }
+}
@@ -2,15 +2,23 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -29,6 +38,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -39,6 +49,28 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // writes values into a generator without flushing it after each, so that streamed files are written in blocks
+    private static ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    /**
+     * Writes the content of a JSON document to a {@code JsonGenerator}, from which objects can be written with
+     * {@link JsonGenerator#writeObject(Object)} as they would be by this class.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads a value from a JSON document as it is parsed by a {@code JsonParser}, from which objects can be read
+     * with {@link JsonParser#readValueAs(Class)} as they would be by this class.
+     */
+    @FunctionalInterface
+    public interface JsonContentReader<T> {
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -77,6 +109,35 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the value read by {@code contentReader} from the given file as it is parsed, without holding the
+     * file in memory, or {@code Optional.empty()} object if the file is not found.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file is not valid JSON or {@code contentReader} finds illegal values.
+     */
+    public static <T> Optional<T> parseJsonFile(Path filePath, JsonContentReader<T> contentReader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(contentReader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = streamingObjectMapper.getFactory().createParser(in)) {
+            return Optional.of(contentReader.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +152,38 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes the JSON document generated by {@code contentWriter} to the specified file as it is generated,
+     * without holding the document in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The document is written to a temporary file in the same directory that then replaces the file, so that the
+     * file is left intact should the write fail.
+     * @param isPrettyPrinted whether the document is indented as by {@link #toJsonString(Object)}
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isPrettyPrinted, JsonContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path tempPath = Files.createTempFile(directory, filePath.getFileName().toString(), TEMP_FILE_EXTENSION);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+                    JsonGenerator generator =
+                            streamingObjectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (isPrettyPrinted) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                contentWriter.writeTo(generator);
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +204,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any whitespace between values.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
@@ -36,6 +40,11 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // the version of the address book last saved, if it has been saved since it was loaded
+    // reset when a background save fails, so that the next command saves again
+    private volatile Optional<Long> savedVersion = Optional.empty();
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -43,6 +52,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setAddressBookSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -54,17 +64,33 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // read-only commands leave the address book as it was saved, which then need not be written again
+        long version = model.getAddressBookVersion();
+        if (savedVersion.isPresent() && savedVersion.get() == version) {
+            return commandResult;
         }
+        // recorded before the save is submitted, so that a failure of the save always resets it afterwards
+        savedVersion = Optional.of(version);
+        storage.saveAddressBookInBackground(model.getAddressBook());
 
         return commandResult;
     }
 
+    private void handleSaveFailure(IOException e) {
+        savedVersion = Optional.empty();
+        if (e instanceof AccessDeniedException) {
+            saveFailureHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -18,6 +18,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person's name provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_APPOINTMENTS_LISTED_OVERVIEW = "%1$d appointments listed!";
+    public static final String MESSAGE_PERSONS_BEING_LISTED = "Finding the matching persons among %1$d...";
+    public static final String MESSAGE_APPOINTMENTS_BEING_LISTED = "Finding the matching appointments among %1$d...";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_MULTIPLE_PERSONS_FOUND_NAME =
@@ -0,0 +1,153 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ViewMode;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.rank.Rank;
+
+/**
+ * Lists the next appointments from now that are not cancelled, in order of their start time,
+ * optionally only those of a client or of the clients of a rank.
+ */
+public class AgendaCommand extends Command {
+    public static final String COMMAND_WORD = "agenda";
+    public static final int DEFAULT_COUNT = 5;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the next appointments from now that are not"
+        + " cancelled, earliest first.\n"
+        + "Parameters: [COUNT (default " + DEFAULT_COUNT + ")] "
+        + "[" + PREFIX_NAME + "NAME] "
+        + "[" + PREFIX_RANK + "RANK]\n"
+        + "Example: " + COMMAND_WORD + " 10 " + PREFIX_RANK + "crisis";
+    public static final String MESSAGE_SUCCESS = "%1$d upcoming appointments listed!";
+
+    private final int count;
+    private final Optional<Name> clientName;
+    private final Optional<Rank> rank;
+
+    /**
+     * @param count the number of appointments to list
+     * @param clientName the client whose appointments are listed, if any
+     * @param rank the rank of the clients whose appointments are listed, if any
+     */
+    public AgendaCommand(int count, Optional<Name> clientName, Optional<Rank> rank) {
+        requireNonNull(clientName);
+        requireNonNull(rank);
+        assert count > 0;
+        this.count = count;
+        this.clientName = clientName;
+        this.rank = rank;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime now = LocalDateTime.now();
+        List<Appointment> upcoming;
+        if (clientName.isPresent()) {
+            upcoming = getUpcomingAppointmentsOfClients(model, clientsNamed(model), now);
+        } else if (rank.isPresent()) {
+            upcoming = getUpcomingAppointmentsOfRank(model, now);
+        } else {
+            upcoming = model.getUpcomingAppointments(now, count, PREDICATE_SHOW_ALL_APPOINTMENTS);
+        }
+
+        // shown by id, so that an appointment edited while listed stays listed
+        Set<AppointmentId> shownIds = upcoming.stream().map(Appointment::getId).collect(Collectors.toSet());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredAppointmentList(appointment -> shownIds.contains(appointment.getId()));
+        model.setViewMode(ViewMode.APPOINTMENTS);
+
+        // the list shows appointments in the order they were added, so the agenda itself is listed in the result
+        String agenda = upcoming.stream()
+            .map(appointment -> "\n" + appointment.getClientName() + ": " + Messages.format(appointment))
+            .collect(Collectors.joining());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, upcoming.size()) + agenda);
+    }
+
+    /**
+     * Returns the clients with the given name and rank, found through the name index.
+     */
+    private List<Person> clientsNamed(Model model) {
+        return model.getPersonsNamed(clientName.get()).stream()
+            .filter(person -> rank.map(person.getRank()::equals).orElse(true))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the next appointments of the clients of the given rank, who are found through the rank index.
+     * When there are few of them, only their own appointments are looked at. Otherwise the appointments of all
+     * clients are scanned from now, as they are then likely to be among the first appointments scanned.
+     */
+    private List<Appointment> getUpcomingAppointmentsOfRank(Model model, LocalDateTime from) {
+        List<Person> clients = model.getPersonsWithRank(rank.get());
+        if ((long) clients.size() * count <= model.getAddressBook().getAppointmentList().size()) {
+            return getUpcomingAppointmentsOfClients(model, clients, from);
+        }
+        Set<Name> clientNames = clients.stream().map(Person::getName).collect(Collectors.toSet());
+        return model.getUpcomingAppointments(from, count,
+            appointment -> clientNames.contains(appointment.getClientName()));
+    }
+
+    /**
+     * Returns the next appointments of {@code clients}.
+     * Only their own appointments are looked at, each client's in O(log m + count) time.
+     */
+    private List<Appointment> getUpcomingAppointmentsOfClients(Model model, List<Person> clients,
+                                                               LocalDateTime from) {
+        return clients.stream()
+            .flatMap(person -> model.getUpcomingAppointmentsOf(person.getName(), from, count).stream())
+            .sorted(Comparator.comparing(appointment -> appointment.getDateTime().dateTime))
+            .limit(count)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return count == otherAgendaCommand.count
+            && clientName.equals(otherAgendaCommand.clientName)
+            && rank.equals(otherAgendaCommand.rank);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, clientName, rank);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("count", count)
+            .add("clientName", clientName)
+            .add("rank", rank)
+            .toString();
+    }
+}
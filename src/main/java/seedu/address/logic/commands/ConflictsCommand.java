@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.ViewMode;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentId;
+
+/**
+ * Finds every pair of confirmed appointments in the address book whose times overlap, optionally only those of
+ * the same client or at the same location, and shows them in the appointment list.
+ */
+public class ConflictsCommand extends Command {
+    public static final String COMMAND_WORD = "conflicts";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the confirmed appointments whose times"
+        + " overlap.\n"
+        + "Parameters: [client|location] to only count overlaps of the same client or at the same location\n"
+        + "Example: " + COMMAND_WORD + " client";
+    public static final String MESSAGE_SUCCESS = "%1$d conflicts found!";
+
+    /**
+     * The appointments that can conflict with each other.
+     */
+    public enum Grouping {
+        ALL(appointment -> Boolean.TRUE),
+        CLIENT(Appointment::getClientName),
+        // appointments without a location cannot be at the same location
+        LOCATION(appointment -> appointment.getLocation().value.isEmpty() ? null : appointment.getLocation());
+
+        private final Function<Appointment, Object> groupKey;
+
+        Grouping(Function<Appointment, Object> groupKey) {
+            this.groupKey = groupKey;
+        }
+    }
+
+    private final Grouping grouping;
+
+    /**
+     * @param grouping the appointments that can conflict with each other
+     */
+    public ConflictsCommand(Grouping grouping) {
+        requireNonNull(grouping);
+        this.grouping = grouping;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<AppointmentConflict> conflicts = model.getConfirmedConflicts(grouping.groupKey);
+
+        // shown by id, so that an appointment edited while listed stays listed
+        Set<AppointmentId> shownIds = new HashSet<>();
+        conflicts.forEach(conflict -> {
+            shownIds.add(conflict.getFirst().getId());
+            shownIds.add(conflict.getSecond().getId());
+        });
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredAppointmentList(appointment -> shownIds.contains(appointment.getId()));
+        model.setViewMode(ViewMode.APPOINTMENTS);
+
+        String report = conflicts.stream()
+            .map(conflict -> "\n" + describe(conflict.getFirst()) + " overlaps " + describe(conflict.getSecond()))
+            .collect(Collectors.joining());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, conflicts.size()) + report);
+    }
+
+    private static String describe(Appointment appointment) {
+        return appointment.getId() + " (" + appointment.getClientName() + ", " + appointment.getDateTime() + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConflictsCommand)) {
+            return false;
+        }
+
+        ConflictsCommand otherConflictsCommand = (ConflictsCommand) other;
+        return grouping == otherConflictsCommand.grouping;
+    }
+
+    @Override
+    public int hashCode() {
+        return grouping.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("grouping", grouping)
+            .toString();
+    }
+}
@@ -11,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Deletes a person identified using it's displayed index from the address book.
@@ -85,8 +86,9 @@ public class DeleteCommand extends Command {
     }
 
     private static List<Person> getMatchedPerson(List<Person> personList, Name targetName) {
+        String normalizedTargetName = SearchKeys.normalizeName(targetName.fullName);
         return personList.stream()
-                .filter(person -> person.getName().equals(targetName))
+                .filter(person -> person.getSearchKeys().getName().equals(normalizedTargetName))
                 .toList();
     }
 
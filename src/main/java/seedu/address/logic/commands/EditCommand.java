@@ -122,10 +122,14 @@ public class EditCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Rank updatedRank = editPersonDescriptor.getRank().orElse(personToEdit.getRank());
-        List<Appointment> updatedAppointment = editPersonDescriptor.getAppointment()
-                .orElse(personToEdit.getAppointments());
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress,
-            updatedTags, updatedRank, updatedAppointment);
+        Optional<List<Appointment>> updatedAppointments = editPersonDescriptor.getAppointment();
+        if (updatedAppointments.isPresent()) {
+            return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags, updatedRank, updatedAppointments.get());
+        }
+        // Shares the unchanged appointments instead of copying them, which matters for clients with many
+        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedRank)
+                .withAppointmentsView(personToEdit.getAppointments());
     }
 
     @Override
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
+
+/**
+ * Executes a {@code FindCommand} and shows the query plans it used, along with the time taken by each of their
+ * stages.
+ */
+public class ExplainCommand extends Command {
+    public static final String COMMAND_WORD = "explain";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds like the find command, and shows how the"
+        + " search was carried out and how long it took.\n"
+        + "Parameters: same as " + FindCommand.COMMAND_WORD + "\n"
+        + "Example: " + COMMAND_WORD + " n/alex r/crisis";
+
+    private final FindCommand findCommand;
+
+    /**
+     * @param findCommand the find command to explain
+     */
+    public ExplainCommand(FindCommand findCommand) {
+        requireNonNull(findCommand);
+        this.findCommand = findCommand;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<QueryPlan<?>> plans = new ArrayList<>();
+        CommandResult result = findCommand.execute(model, plans);
+        String explanation = plans.stream()
+            .map(QueryPlan::explain)
+            .collect(Collectors.joining("\n"));
+        return new CommandResult(result.getFeedbackToUser() + "\n" + explanation);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return findCommand.equals(otherExplainCommand.findCommand);
+    }
+
+    @Override
+    public int hashCode() {
+        return findCommand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("findCommand", findCommand)
+            .toString();
+    }
+}
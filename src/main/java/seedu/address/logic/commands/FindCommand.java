@@ -11,6 +11,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -18,6 +20,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
 import seedu.address.model.ViewMode;
 import seedu.address.model.appointment.AppointmentQuery;
 import seedu.address.model.person.PersonQuery;
@@ -77,18 +80,34 @@ public class FindCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, new ArrayList<>());
+    }
+
+    /**
+     * Executes the find command like {@link #execute(Model)}, adding the query plans it executed to {@code plans}.
+     */
+    CommandResult execute(Model model, List<QueryPlan<?>> plans) {
         requireNonNull(model);
 
-        model.updateFilteredPersonList(personQuery::filter);
+        plans.add(model.updateFilteredPersonList(personQuery));
 
         if (appointmentQuery.isPresent()) {
-            model.updateFilteredAppointmentList(appointmentQuery.get()::filter);
+            plans.add(model.updateFilteredAppointmentList(appointmentQuery.get()));
             model.setViewMode(ViewMode.APPOINTMENTS);
+            if (model.hasPendingFilters()) {
+                // the list is updated once the filter is evaluated in the background
+                return new CommandResult(String.format(Messages.MESSAGE_APPOINTMENTS_BEING_LISTED,
+                        model.getAddressBook().getAppointmentList().size()));
+            }
             return new CommandResult(
                 String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
                     model.getFilteredAppointmentList().size()));
         }
 
+        if (model.hasPendingFilters()) {
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_BEING_LISTED,
+                    model.getAddressBook().getPersonList().size()));
+        }
         return new CommandResult(
             String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                 model.getFilteredPersonList().size()));
@@ -4,7 +4,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 
 import java.util.Optional;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -12,6 +11,7 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Edits an appointment and links it directly to a client (person).
@@ -37,15 +37,13 @@ public class LinkAppointmentDeleteCommand extends LinkAppointmentCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ObservableList<Appointment> apptList = model.getFilteredAppointmentList();
-        checkApptExists(targetId, apptList);
-        Appointment apptToDelete = getAppt(targetId, apptList);
+        Appointment apptToDelete = model.getAppointmentById(targetId).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_APPOINTMENT_NOT_FOUND, targetId.toString())));
         Name clientName = apptToDelete.getClientName();
+        assert clientName != null;
+        String normalizedClientName = SearchKeys.normalizeName(clientName.fullName);
         Optional<Person> clientOpt = model.getFilteredPersonList().stream()
-                .filter(p -> {
-                    assert clientName != null;
-                    return p.getName().fullName.equalsIgnoreCase(clientName.fullName);
-                })
+                .filter(p -> p.getSearchKeys().getName().equals(normalizedClientName))
                 .findFirst();
 
         if (clientOpt.isEmpty()) {
@@ -61,24 +59,6 @@ public class LinkAppointmentDeleteCommand extends LinkAppointmentCommand {
         );
     }
 
-    private Appointment getAppt(AppointmentId id, ObservableList<Appointment> apptList) throws CommandException {
-        for (Appointment appt : apptList) {
-            if (appt.getId().equals(id)) {
-                return appt;
-            }
-        }
-        throw new CommandException("Unable to find appointment with ID: " + id);
-    }
-
-    private void checkApptExists(AppointmentId targetId, ObservableList<Appointment> apptList) throws CommandException {
-        for (Appointment appt : apptList) {
-            if (appt.getId().equals(targetId)) {
-                return;
-            }
-        }
-        throw new CommandException(String.format(MESSAGE_APPOINTMENT_NOT_FOUND, targetId.toString()));
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -11,7 +11,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 import java.util.Objects;
 import java.util.Optional;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -27,6 +26,7 @@ import seedu.address.model.appointment.AppointmentStatus;
 import seedu.address.model.appointment.AppointmentType;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Edits an appointment and links it directly to a client (person).
@@ -62,15 +62,14 @@ public class LinkAppointmentEditCommand extends LinkAppointmentCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ObservableList<Appointment> apptList = model.getFilteredAppointmentList();
-        Appointment oldAppt = getAppt(targetId, apptList);
+        Appointment oldAppt = model.getAppointmentById(targetId)
+                .orElseThrow(() -> new CommandException("Unable to find appointment with ID: " + targetId));
         Appointment editedAppt = createEditedAppt(oldAppt, newAppt);
         Name clientName = oldAppt.getClientName();
+        assert clientName != null;
+        String normalizedClientName = SearchKeys.normalizeName(clientName.fullName);
         Optional<Person> clientOpt = model.getFilteredPersonList().stream()
-                .filter(p -> {
-                    assert clientName != null;
-                    return p.getName().fullName.equalsIgnoreCase(clientName.fullName);
-                })
+                .filter(p -> p.getSearchKeys().getName().equals(normalizedClientName))
                 .findFirst();
 
         if (clientOpt.isEmpty()) {
@@ -98,15 +97,6 @@ public class LinkAppointmentEditCommand extends LinkAppointmentCommand {
         );
     }
 
-    private Appointment getAppt(AppointmentId id, ObservableList<Appointment> apptList) throws CommandException {
-        for (Appointment appt : apptList) {
-            if (appt.getId().equals(id)) {
-                return appt;
-            }
-        }
-        throw new CommandException("Unable to find appointment with ID: " + id);
-    }
-
     private Appointment createEditedAppt(Appointment oldAppt, EditAppointmentDescriptor newAppt) {
         assert oldAppt != null;
 
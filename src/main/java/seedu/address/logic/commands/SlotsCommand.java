@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.AppointmentDateTimeQuery;
+import seedu.address.model.appointment.AppointmentLength;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.FreeSlotFinder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the earliest free slots in which an appointment of a given length can be linked to a client without
+ * clashing with the client's confirmed appointments.
+ */
+public class SlotsCommand extends Command {
+    public static final String COMMAND_WORD = "slots";
+    public static final int MAX_SLOTS = 5;
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    public static final LocalTime DEFAULT_DAY_END = LocalTime.of(18, 0);
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest free slots for an appointment"
+        + " with a client, within working hours.\n"
+        + "Parameters: "
+        + PREFIX_NAME + "NAME "
+        + PREFIX_APPOINTMENT + "DATE RANGE "
+        + PREFIX_LENGTH + "MINUTES "
+        + "[" + PREFIX_HOURS + "HHmm-HHmm (default 0900-1800)]\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "John Doe " + PREFIX_APPOINTMENT
+        + "24-10-2025 to 26-10-2025 " + PREFIX_LENGTH + "60 " + PREFIX_HOURS + "1000-1600";
+    public static final String MESSAGE_SUCCESS = "%1$d free slots found for %2$s";
+
+    private final Name clientName;
+    private final AppointmentDateTimeQuery range;
+    private final AppointmentLength length;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+
+    /**
+     * Creates a command finding free slots of {@code length} for the client named {@code clientName} within
+     * {@code range}, from {@code dayStart} to {@code dayEnd} of each day.
+     */
+    public SlotsCommand(Name clientName, AppointmentDateTimeQuery range, AppointmentLength length,
+                        LocalTime dayStart, LocalTime dayEnd) {
+        requireNonNull(clientName);
+        requireNonNull(range);
+        requireNonNull(length);
+        requireNonNull(dayStart);
+        requireNonNull(dayEnd);
+        this.clientName = clientName;
+        this.range = range;
+        this.length = length;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person client = getClient(model);
+
+        // slots in the past cannot be booked, and slots start on a whole minute like appointments do
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDateTime from = range.getStart().isAfter(now) ? range.getStart() : now;
+        LocalDateTime to = range.getEnd();
+        List<FreeSlot> slots = from.isBefore(to)
+            ? new FreeSlotFinder(length.duration, dayStart, dayEnd)
+                .find(model.getConfirmedAppointmentsOf(client.getName(), from, to), from, to, MAX_SLOTS)
+            : List.of();
+
+        String slotList = slots.stream()
+            .map(slot -> "\n" + slot)
+            .collect(Collectors.joining());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, slots.size(), client.getName()) + slotList);
+    }
+
+    /**
+     * Returns the client named {@code clientName}, found through the name index.
+     */
+    private Person getClient(Model model) throws CommandException {
+        List<Person> clients = model.getPersonsNamed(clientName);
+        if (clients.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_PERSON_DOES_NOT_EXIST);
+        }
+        if (clients.size() > 1) {
+            throw new CommandException(Messages.MESSAGE_MULTIPLE_PERSONS_FOUND_NAME + clients.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        }
+        return clients.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SlotsCommand)) {
+            return false;
+        }
+
+        SlotsCommand otherSlotsCommand = (SlotsCommand) other;
+        return clientName.equals(otherSlotsCommand.clientName)
+            && range.equals(otherSlotsCommand.range)
+            && length.equals(otherSlotsCommand.length)
+            && dayStart.equals(otherSlotsCommand.dayStart)
+            && dayEnd.equals(otherSlotsCommand.dayEnd);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientName, range, length, dayStart, dayEnd);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("clientName", clientName)
+            .add("range", range.toString(new ToStringBuilder("")))
+            .add("length", length)
+            .add("dayStart", dayStart)
+            .add("dayEnd", dayEnd)
+            .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.rank.Rank;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_RANK);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_RANK);
+
+        String preamble = argMultimap.getPreamble();
+        int count = AgendaCommand.DEFAULT_COUNT;
+        if (!preamble.isEmpty()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+            }
+            count = Integer.parseInt(preamble);
+        }
+
+        Optional<Name> clientName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            clientName = Optional.of(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+        }
+        Optional<Rank> rank = Optional.empty();
+        if (argMultimap.getValue(PREFIX_RANK).isPresent()) {
+            rank = Optional.of(ParserUtil.parseRank(argMultimap.getValue(PREFIX_RANK).get()));
+        }
+        return new AgendaCommand(count, clientName, rank);
+    }
+}
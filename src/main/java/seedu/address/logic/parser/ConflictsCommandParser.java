@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ConflictsCommand.Grouping;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConflictsCommand object
+ */
+public class ConflictsCommandParser implements Parser<ConflictsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConflictsCommand
+     * and returns a ConflictsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConflictsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        switch (args.trim().toLowerCase()) {
+        case "":
+            return new ConflictsCommand(Grouping.ALL);
+        case "client":
+            return new ConflictsCommand(Grouping.CLIENT);
+        case "location":
+            return new ConflictsCommand(Grouping.LOCATION);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -122,7 +122,7 @@ public class ParserUtil {
         if (!Rank.isValidRankName(trimmedRank)) {
             throw new ParseException(Rank.MESSAGE_CONSTRAINTS);
         }
-        return new Rank(trimmedRank);
+        return Rank.of(trimmedRank);
     }
 
     /**
@@ -137,7 +137,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -239,13 +239,13 @@ public class ParserUtil {
      */
     public static AppointmentLocation parseAppointmentLocation(String location) throws ParseException {
         if (location == null || location.trim().isEmpty()) {
-            return new AppointmentLocation(AppointmentLocation.NO_LOCATION);
+            return AppointmentLocation.of(AppointmentLocation.NO_LOCATION);
         }
         String trimmed = location.trim();
         if (!AppointmentLocation.isValidLocation(trimmed)) {
             throw new ParseException(AppointmentLocation.MESSAGE_CONSTRAINTS);
         }
-        return new AppointmentLocation(trimmed);
+        return AppointmentLocation.of(trimmed);
     }
 
     /**
@@ -254,9 +254,9 @@ public class ParserUtil {
      */
     public static AppointmentType parseAppointmentType(String type) {
         if (type == null || type.trim().isEmpty()) {
-            return new AppointmentType(AppointmentType.NO_TYPE);
+            return AppointmentType.of(AppointmentType.NO_TYPE);
         }
-        return new AppointmentType(type.trim());
+        return AppointmentType.of(type.trim());
     }
 
     /**
@@ -276,13 +276,13 @@ public class ParserUtil {
      */
     public static AppointmentStatus parseAppointmentStatus(String status) throws ParseException {
         if (status == null || status.trim().isEmpty()) {
-            return new AppointmentStatus("planned");
+            return AppointmentStatus.of("planned");
         }
         String trimmed = status.trim().toLowerCase();
         if (!AppointmentStatus.isValidStatus(trimmed)) {
             throw new ParseException(AppointmentStatus.MESSAGE_CONSTRAINTS);
         }
-        return new AppointmentStatus(trimmed);
+        return AppointmentStatus.of(trimmed);
     }
 
     /**
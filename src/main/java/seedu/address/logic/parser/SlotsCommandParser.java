@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.SlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentDateTimeQuery;
+import seedu.address.model.appointment.AppointmentLength;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new SlotsCommand object
+ */
+public class SlotsCommandParser implements Parser<SlotsCommand> {
+
+    public static final String MESSAGE_INVALID_HOURS =
+            "Working hours should be given as HHmm-HHmm, with the start before the end (e.g. 0900-1800)";
+    private static final String HOURS_VALIDATION_REGEX = "^([01]\\d|2[0-3])[0-5]\\d-([01]\\d|2[0-3])[0-5]\\d$";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SlotsCommand
+     * and returns a SlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_APPOINTMENT, PREFIX_LENGTH, PREFIX_HOURS);
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_APPOINTMENT, PREFIX_LENGTH)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_APPOINTMENT, PREFIX_LENGTH, PREFIX_HOURS);
+
+        Name clientName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        AppointmentDateTimeQuery range =
+                ParserUtil.parseAppointmentDateTimeQuery(argMultimap.getValue(PREFIX_APPOINTMENT).get());
+        AppointmentLength length = ParserUtil.parseAppointmentLength(argMultimap.getValue(PREFIX_LENGTH).get());
+        LocalTime dayStart = SlotsCommand.DEFAULT_DAY_START;
+        LocalTime dayEnd = SlotsCommand.DEFAULT_DAY_END;
+        if (argMultimap.getValue(PREFIX_HOURS).isPresent()) {
+            String hours = argMultimap.getValue(PREFIX_HOURS).get().trim();
+            if (!hours.matches(HOURS_VALIDATION_REGEX)) {
+                throw new ParseException(MESSAGE_INVALID_HOURS);
+            }
+            dayStart = parseTime(hours.substring(0, 4));
+            dayEnd = parseTime(hours.substring(5));
+            if (!dayStart.isBefore(dayEnd)) {
+                throw new ParseException(MESSAGE_INVALID_HOURS);
+            }
+        }
+        return new SlotsCommand(clientName, range, length, dayStart, dayEnd);
+    }
+
+    private static LocalTime parseTime(String time) {
+        return LocalTime.of(Integer.parseInt(time.substring(0, 2)), Integer.parseInt(time.substring(2)));
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
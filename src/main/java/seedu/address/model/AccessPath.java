@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A way of finding the elements of a list that can match a query through one of the indexes of the address book.
+ * The candidates found through an access path include every matching element, but they still have to be checked
+ * against the rest of the query.
+ *
+ * @param <T> the type of the elements of the list
+ */
+public class AccessPath<T> {
+
+    private final String description;
+    private final int estimatedSize;
+    private final Supplier<Set<T>> candidates;
+
+    /**
+     * Creates an access path that is expected to find about {@code estimatedSize} candidates
+     * when {@code candidates} is called.
+     */
+    public AccessPath(String description, int estimatedSize, Supplier<Set<T>> candidates) {
+        requireAllNonNull(description, candidates);
+        this.description = description;
+        this.estimatedSize = estimatedSize;
+        this.candidates = candidates;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the candidates found through this access path.
+     */
+    public Set<T> findCandidates() {
+        return candidates.get();
+    }
+
+    @Override
+    public String toString() {
+        return description + " (~" + estimatedSize + ")";
+    }
+}
@@ -2,20 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.UUID;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.AppointmentDateTimeQuery;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentIdAllocator;
 import seedu.address.model.appointment.AppointmentQuery;
-import seedu.address.model.appointment.AppointmentStatus;
 import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.rank.Rank;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -25,7 +40,11 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueAppointmentList appointments;
-    private List<AppointmentId> idList;
+    private final Map<AppointmentId, Appointment> appointmentsById;
+    private final AppointmentIdAllocator idAllocator;
+
+    // incremented on every change to the data, so that unchanged data need not be saved again
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,7 +56,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         appointments = new UniqueAppointmentList();
-        idList = new ArrayList<>();
+        appointmentsById = new HashMap<>();
+        idAllocator = new AppointmentIdAllocator();
+        appointments.asUnmodifiableObservableList().addListener(this::updateAppointmentsById);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        appointments.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change -> version++);
     }
 
     public AddressBook() {
@@ -58,15 +81,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        this.persons.setPersons(persons.stream().map(this::withAppointmentsView).collect(Collectors.toList()));
     }
 
     public void setAppointments(List<Appointment> appointments) {
         this.appointments.setAppointments(appointments);
-
-        for (Appointment appt : appointments) {
-            idList.add(appt.getId());
-        }
     }
 
     /**
@@ -74,9 +93,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        idList = new ArrayList<>();
         setPersons(newData.getPersonList());
         setAppointments(newData.getAppointmentList());
+        setNextAppointmentId(newData.getNextAppointmentId());
+    }
+
+    /**
+     * Sets the counter, in base 36, from which the next appointment id will be allocated.
+     */
+    public void setNextAppointmentId(String counter) {
+        requireNonNull(counter);
+        idAllocator.setNext(counter);
+        version++;
     }
 
     //// person-level operations
@@ -89,22 +117,87 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and differences in whitespace.
+     */
+    public List<Person> getPersonsNamed(Name name) {
+        requireNonNull(name);
+        return persons.getPersonsWithNormalizedName(name);
+    }
+
+    /**
+     * Returns the persons of the given {@code rank}, in the order of the address book.
+     * The persons are found through the rank bitmap rather than by scanning the address book.
+     */
+    public List<Person> getPersonsWithRank(Rank rank) {
+        requireNonNull(rank);
+        List<Person> personList = persons.asUnmodifiableObservableList();
+        return persons.getPositionsWithRank(rank.rankName).stream()
+                .mapToObj(personList::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the access paths through the indexes of the address book that apply to {@code query}.
+     * Each of them finds every person matching the query, along with some persons that do not.
+     */
+    public List<AccessPath<Person>> getPersonAccessPaths(PersonQuery query) {
+        requireNonNull(query);
+        List<AccessPath<Person>> accessPaths = new ArrayList<>();
+        Optional<Set<String>> keywords = query.getNameKeywords();
+        keywords.flatMap(persons::estimateNameCandidates).ifPresent(estimate ->
+                accessPaths.add(new AccessPath<>("name trigrams", estimate, () ->
+                        personsNamed(persons.getNameCandidates(keywords.get()).orElseThrow()))));
+        query.getPhone().map(persons::getNamesWithPhone).ifPresent(names ->
+                accessPaths.add(new AccessPath<>("phone hash", names.size(), () -> personsNamed(names))));
+        query.getEmail().map(persons::getNamesWithEmail).ifPresent(names ->
+                accessPaths.add(new AccessPath<>("email hash", names.size(), () -> personsNamed(names))));
+
+        // the bitmaps are cheap to combine, so they form a single access path
+        BitSet positions = null;
+        List<String> bitmaps = new ArrayList<>();
+        if (query.getRank().isPresent()) {
+            positions = intersect(positions, persons.getPositionsWithRank(query.getRank().get().rankName));
+            bitmaps.add("rank");
+        }
+        Set<Tag> tags = query.getTags().orElse(Collections.emptySet());
+        if (!tags.isEmpty()) {
+            positions = intersect(positions, persons.getPositionsWithTags(tags));
+            bitmaps.add("tags");
+        }
+        if (positions != null) {
+            BitSet candidates = positions;
+            accessPaths.add(new AccessPath<>(String.join(" and ", bitmaps) + " bitmaps", candidates.cardinality(),
+                    () -> elementsAt(persons.asUnmodifiableObservableList(), candidates)));
+        }
+        return accessPaths;
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        persons.add(withAppointmentsView(p));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * If the name changes, the appointments of {@code target} are moved to {@code editedPerson}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(target, withAppointmentsView(editedPerson));
+        if (!target.getName().equals(editedPerson.getName())) {
+            for (Appointment appt : new ArrayList<>(appointments.getAppointmentsOf(target.getName()))) {
+                appointments.setAppointment(appt, new Appointment(appt.getId(), editedPerson.getName(),
+                        appt.getDateTime(), appt.getLength(), appt.getLocation(), appt.getType(),
+                        appt.getMessage(), appt.getStatus()));
+            }
+            appointments.releaseAppointmentsOf(target.getName());
+        }
     }
 
     /**
@@ -112,12 +205,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        // remove associated appointments
-        key.getAppointments().forEach(appt -> {
-            appointments.remove(appt);
-            idList.remove(appt.getId());
-        });
         persons.remove(key);
+        // remove associated appointments
+        appointments.removeAppointmentsOf(key.getName());
+        appointments.releaseAppointmentsOf(key.getName());
     }
 
     //// appointment-level operations
@@ -128,9 +219,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
-        return appointments.containsQuery(appt ->
-                appt.isSameAppointment(appointment)
-        ) != null;
+        return appointments.contains(appointment);
     }
 
     /**
@@ -138,18 +227,41 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Only confirmed appointment is checked.
      */
     public Appointment getClashedAppointment(Appointment appointment) {
-        // Construct an appointment query
-        if (!appointment.getStatus().equals(new AppointmentStatus("confirmed"))) {
-            return null;
-        }
-        AppointmentQuery query = AppointmentQuery.build()
-                .setDateTime(AppointmentDateTimeQuery.interval(appointment.getDateTime().dateTime,
-                        appointment.getLength().duration))
-                .setStatus(new AppointmentStatus("confirmed"));
-        return appointments.containsQuery(appt ->
-                query.filter(appt)
-                        && appt.getClientName().equals(appointment.getClientName())
-                        && !appt.getId().equals(appointment.getId()));
+        requireNonNull(appointment);
+        return appointments.getClashedAppointment(appointment);
+    }
+
+    /**
+     * Returns the next {@code count} appointments that are not cancelled, start at or after {@code from} and
+     * satisfy {@code filter}, in order of their start time.
+     */
+    public List<Appointment> getUpcomingAppointments(LocalDateTime from, int count,
+                                                     Predicate<? super Appointment> filter) {
+        return appointments.getUpcomingAppointments(from, count, filter);
+    }
+
+    /**
+     * Returns the next {@code count} appointments of the client named {@code clientName} that are not cancelled
+     * and start at or after {@code from}, in order of their start time.
+     */
+    public List<Appointment> getUpcomingAppointmentsOf(Name clientName, LocalDateTime from, int count) {
+        return appointments.getUpcomingAppointmentsOf(clientName, from, count);
+    }
+
+    /**
+     * Returns the confirmed appointments of the client named {@code clientName} whose time overlaps with the range
+     * from {@code start} to {@code end}, in order of their start time.
+     */
+    public List<Appointment> getConfirmedAppointmentsOf(Name clientName, LocalDateTime start, LocalDateTime end) {
+        return appointments.getConfirmedAppointmentsOf(clientName, start, end);
+    }
+
+    /**
+     * Returns every pair of confirmed appointments whose times overlap and whose keys given by {@code groupKey}
+     * are equal. Appointments whose key is null are left out.
+     */
+    public List<AppointmentConflict> getConfirmedConflicts(Function<? super Appointment, ?> groupKey) {
+        return appointments.getConfirmedConflicts(groupKey);
     }
 
     /**
@@ -158,7 +270,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAppointment(Appointment a) {
         appointments.add(a);
-        idList.add(a.getId());
     }
 
     /**
@@ -167,7 +278,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeAppointment(Appointment a) {
         appointments.remove(a);
-        idList.remove(a.getId());
     }
 
     /**
@@ -177,19 +287,122 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireNonNull(editedAppointment);
         appointments.setAppointment(target, editedAppointment);
-        idList.remove(target.getId());
-        idList.add(editedAppointment.getId());
     }
 
     /**
-     * Generates a random and unique {@code AppointmentID}
+     * Returns the access paths through the indexes of the address book that apply to {@code query}.
+     * Each of them finds every appointment matching the query, along with some appointments that do not.
+     */
+    public List<AccessPath<Appointment>> getAppointmentAccessPaths(AppointmentQuery query) {
+        requireNonNull(query);
+        List<AccessPath<Appointment>> accessPaths = new ArrayList<>();
+        query.getDateTime().ifPresent(dateTime -> accessPaths.add(new AccessPath<>("date range time columns",
+                appointments.countAppointmentsOverlapping(dateTime.getStart(), dateTime.getEnd()), () -> {
+                    Set<Appointment> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                    candidates.addAll(appointments.getAppointmentsOverlapping(dateTime.getStart(), dateTime.getEnd()));
+                    return candidates;
+                })));
+
+        // the bitmaps are cheap to combine, so they form a single access path
+        BitSet positions = null;
+        List<String> bitmaps = new ArrayList<>();
+        if (query.getStatus().isPresent()) {
+            positions = intersect(positions, appointments.getPositionsWithStatus(query.getStatus().get().value));
+            bitmaps.add("status");
+        }
+        if (query.getType().isPresent()) {
+            positions = intersect(positions, appointments.getPositionsWithType(query.getType().get()));
+            bitmaps.add("type");
+        }
+        if (positions != null) {
+            BitSet candidates = positions;
+            accessPaths.add(new AccessPath<>(String.join(" and ", bitmaps) + " bitmaps", candidates.cardinality(),
+                    () -> elementsAt(appointments.asUnmodifiableObservableList(), candidates)));
+        }
+        return accessPaths;
+    }
+
+    /**
+     * Returns {@code candidates} intersected with {@code positions}, where null candidates stand for every position.
+     */
+    private static BitSet intersect(BitSet candidates, BitSet positions) {
+        if (candidates == null) {
+            return positions;
+        }
+        candidates.and(positions);
+        return candidates;
+    }
+
+    /**
+     * Returns the elements of {@code list} at {@code positions}, compared by identity so that membership checks
+     * do not need to hash their fields.
+     */
+    private static <T> Set<T> elementsAt(List<T> list, BitSet positions) {
+        Set<T> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+        positions.stream().forEach(position -> elements.add(list.get(position)));
+        return elements;
+    }
+
+    /**
+     * Returns the persons named by {@code names}, compared by identity.
+     */
+    private Set<Person> personsNamed(Set<Name> names) {
+        Set<Person> named = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Name name : names) {
+            Person person = persons.getPerson(name);
+            if (person != null) {
+                named.add(person);
+            }
+        }
+        return named;
+    }
+
+    /**
+     * Returns the appointment with the given {@code id}, if there is one.
+     */
+    public Optional<Appointment> getAppointmentById(AppointmentId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(appointmentsById.get(id));
+    }
+
+    /**
+     * Generates a unique {@code AppointmentID} from the appointment id counter.
      */
     public AppointmentId generateId() {
-        AppointmentId tempId = new AppointmentId(UUID.randomUUID().toString().substring(0, 7));
-        while (idList.contains(tempId)) {
-            tempId = new AppointmentId(UUID.randomUUID().toString().substring(0, 7));
+        version++;
+        return idAllocator.allocate(appointmentsById::containsKey);
+    }
+
+    /**
+     * Returns a number that changes whenever the data of this address book changes, including the appointment
+     * id counter. Data read at the same version is the same.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns {@code person} with its appointments replaced by the live view of its appointments in this
+     * address book.
+     */
+    private Person withAppointmentsView(Person person) {
+        requireNonNull(person);
+        ObservableList<Appointment> appointmentsView = appointments.getAppointmentsOf(person.getName());
+        return person.getAppointments() == appointmentsView ? person : person.withAppointmentsView(appointmentsView);
+    }
+
+    private void updateAppointmentsById(ListChangeListener.Change<? extends Appointment> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Appointment removed : change.getRemoved()) {
+                appointmentsById.remove(removed.getId(), removed);
+            }
+            for (Appointment added : change.getAddedSubList()) {
+                appointmentsById.put(added.getId(), added);
+            }
         }
-        return tempId;
     }
 
     /// / util methods
@@ -213,8 +426,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     @Override
-    public List<AppointmentId> getIdList() {
-        return this.idList;
+    public Set<AppointmentId> getIdSet() {
+        return Collections.unmodifiableSet(appointmentsById.keySet());
+    }
+
+    @Override
+    public String getNextAppointmentId() {
+        return idAllocator.getNext();
     }
 
     @Override
@@ -231,7 +449,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         AddressBook otherAddressBook = (AddressBook) other;
         return persons.equals(otherAddressBook.persons)
                 && appointments.equals(otherAddressBook.appointments)
-                && idList.equals(otherAddressBook.idList);
+                && appointmentsById.keySet().equals(otherAddressBook.appointmentsById.keySet());
     }
 
     @Override
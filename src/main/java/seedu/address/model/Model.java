@@ -1,14 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
 
 /**
  * The API of the Model component.
@@ -60,11 +69,29 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the data of the address book changes.
+     * The address book has not been modified since it was last saved if this is unchanged.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and differences in whitespace.
+     * The persons are found through the name index rather than by scanning the address book.
+     */
+    List<Person> getPersonsNamed(Name name);
+
+    /**
+     * Returns the persons of the given {@code rank}.
+     * The persons are found through the rank index rather than by scanning the address book.
+     */
+    List<Person> getPersonsWithRank(Rank rank);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -96,6 +123,15 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons matching {@code query}.
+     * Unlike filtering by {@code query::filter}, this plans the query over the indexes of the address book.
+     *
+     * @return the executed plan.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan<Person> updateFilteredPersonList(PersonQuery query);
+
     /**
      * Returns true if an appointment with the same identity as {@code appointment} exists in the address book.
      */
@@ -107,6 +143,40 @@ public interface Model {
      */
     Appointment getClashedAppointment(Appointment appointment);
 
+    /**
+     * Returns the next {@code count} appointments that are not cancelled, start at or after {@code from} and
+     * satisfy {@code filter}, in order of their start time.
+     * The appointments are read from a time-ordered index, so only the appointments returned and those rejected by
+     * {@code filter} are visited.
+     */
+    List<Appointment> getUpcomingAppointments(LocalDateTime from, int count, Predicate<? super Appointment> filter);
+
+    /**
+     * Returns the next {@code count} appointments of the client named {@code clientName} that are not cancelled
+     * and start at or after {@code from}, in order of their start time.
+     * Only the appointments of the client are looked at.
+     */
+    List<Appointment> getUpcomingAppointmentsOf(Name clientName, LocalDateTime from, int count);
+
+    /**
+     * Returns the confirmed appointments of the client named {@code clientName} whose time overlaps with the range
+     * from {@code start} to {@code end}, in order of their start time.
+     * Only confirmed appointments can clash, so these are the times at which the client is busy.
+     */
+    List<Appointment> getConfirmedAppointmentsOf(Name clientName, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns every pair of confirmed appointments whose times overlap and whose keys given by {@code groupKey}
+     * are equal, ordered by the start of the later appointment of each pair.
+     * Appointments whose key is null are left out.
+     */
+    List<AppointmentConflict> getConfirmedConflicts(Function<? super Appointment, ?> groupKey);
+
+    /**
+     * Returns the appointment with the given {@code id} in the address book, if there is one.
+     */
+    Optional<Appointment> getAppointmentById(AppointmentId id);
+
     /**
      * Deletes the given appointment.
      * The appointment must exist in the address book.
@@ -120,8 +190,8 @@ public interface Model {
     void addAppointment(Appointment appointment);
 
     /**
-     * A combination of Person::withAddedAppointment, Model::setPerson
-     * and Model::addAppointment.
+     * Adds the given appointment of {@code client}.
+     * The appointments of {@code client} are a view of the appointment list, so the client is not rebuilt.
      */
     void addAppointmentWithPerson(Appointment appointment, Person client);
 
@@ -149,6 +219,21 @@ public interface Model {
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
 
+    /**
+     * Updates the filter of the filtered appointment list to the appointments matching {@code query}.
+     * Unlike filtering by {@code query::filter}, this plans the query over the indexes of the address book.
+     *
+     * @return the executed plan.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan<Appointment> updateFilteredAppointmentList(AppointmentQuery query);
+
+    /**
+     * Returns true if a filter applied to the filtered lists is still being evaluated in the background, so that
+     * the lists do not show its result yet.
+     */
+    boolean hasPendingFilters();
+
 
     /**
      * Updates the view mode of the list shown in the MainWindow.
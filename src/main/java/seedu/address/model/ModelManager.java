@@ -4,19 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,6 +40,10 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Appointment> filteredAppointments;
+    private final Set<Name> visiblePersonNames;
+    private Predicate<Appointment> appointmentPredicate;
+    private boolean haveVisiblePersonsChanged;
+    private final ParallelFilter parallelFilter;
 
     private final ObjectProperty<ViewMode> visibleViewMode;
 
@@ -35,6 +51,14 @@ public class ModelManager implements Model {
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Config.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which evaluates filters in parallel
+     * on lists of at least {@code parallelFilterThreshold} elements.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int parallelFilterThreshold) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
@@ -42,8 +66,13 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // read by filters evaluated in the background
+        visiblePersonNames = ConcurrentHashMap.newKeySet();
+        filteredPersons.forEach(person -> visiblePersonNames.add(person.getName()));
+        filteredPersons.addListener(this::updateVisiblePersonNames);
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
         visibleViewMode = new SimpleObjectProperty<>(ViewMode.PERSONS);
+        parallelFilter = new ParallelFilter(parallelFilterThreshold);
     }
 
     public ModelManager() {
@@ -97,12 +126,29 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> getPersonsNamed(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonsNamed(name);
+    }
+
+    @Override
+    public List<Person> getPersonsWithRank(Rank rank) {
+        requireNonNull(rank);
+        return addressBook.getPersonsWithRank(rank);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -135,7 +181,31 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        parallelFilter.apply(addressBook.getPersonList(), predicate, filteredPersons::setPredicate);
+    }
+
+    @Override
+    public QueryPlan<Person> updateFilteredPersonList(PersonQuery query) {
+        requireNonNull(query);
+        QueryPlan<Person> plan = QueryPlan.plan("persons", addressBook.getPersonList().size(), () ->
+                addressBook.getPersonAccessPaths(query), query.compile());
+        plan.execute(this::updateFilteredPersonList);
+        return plan;
+    }
+
+    private void updateVisiblePersonNames(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            // the filtered list reports an update of a person as the person replacing itself
+            if (change.getRemoved().equals(change.getAddedSubList())) {
+                continue;
+            }
+            change.getRemoved().forEach(person -> visiblePersonNames.remove(person.getName()));
+            change.getAddedSubList().forEach(person -> visiblePersonNames.add(person.getName()));
+            haveVisiblePersonsChanged = true;
+        }
     }
 
     @Override
@@ -150,6 +220,37 @@ public class ModelManager implements Model {
         return addressBook.getClashedAppointment(appointment);
     }
 
+    @Override
+    public List<Appointment> getUpcomingAppointments(LocalDateTime from, int count,
+                                                     Predicate<? super Appointment> filter) {
+        requireAllNonNull(from, filter);
+        return addressBook.getUpcomingAppointments(from, count, filter);
+    }
+
+    @Override
+    public List<Appointment> getUpcomingAppointmentsOf(Name clientName, LocalDateTime from, int count) {
+        requireAllNonNull(clientName, from);
+        return addressBook.getUpcomingAppointmentsOf(clientName, from, count);
+    }
+
+    @Override
+    public List<Appointment> getConfirmedAppointmentsOf(Name clientName, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(clientName, start, end);
+        return addressBook.getConfirmedAppointmentsOf(clientName, start, end);
+    }
+
+    @Override
+    public List<AppointmentConflict> getConfirmedConflicts(Function<? super Appointment, ?> groupKey) {
+        requireNonNull(groupKey);
+        return addressBook.getConfirmedConflicts(groupKey);
+    }
+
+    @Override
+    public Optional<Appointment> getAppointmentById(AppointmentId id) {
+        requireNonNull(id);
+        return addressBook.getAppointmentById(id);
+    }
+
     @Override
     public void deleteAppointment(Appointment target) {
         requireNonNull(target);
@@ -160,13 +261,16 @@ public class ModelManager implements Model {
     public void addAppointment(Appointment appointment) {
         requireNonNull(appointment);
         addressBook.addAppointment(appointment);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        // The filtered list already shows the new appointment if nothing is hidden, and refiltering would
+        // cost time and memory in proportion to the number of appointments
+        if (appointmentPredicate != PREDICATE_SHOW_ALL_APPOINTMENTS || haveVisiblePersonsChanged) {
+            updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        }
     }
 
     @Override
     public void addAppointmentWithPerson(Appointment appointment, Person client) {
-        Person updatedClient = client.withAddedAppointment(appointment);
-        setPerson(client, updatedClient);
+        requireAllNonNull(appointment, client);
         addAppointment(appointment);
     }
 
@@ -178,15 +282,13 @@ public class ModelManager implements Model {
 
     @Override
     public void setAppointmentWithPerson(Appointment target, Appointment editedAppointment, Person client) {
-        Person updatedClient = client.withUpdatedAppointment(target, editedAppointment);
-        setPerson(client, updatedClient);
+        requireAllNonNull(target, editedAppointment, client);
         setAppointment(target, editedAppointment);
     }
 
     @Override
     public void unsetAppointmentWithPerson(Appointment target, Person client) {
-        Person updatedClient = client.withoutAppointments(List.of(target));
-        setPerson(client, updatedClient);
+        requireAllNonNull(target, client);
         deleteAppointment(target);
     }
 
@@ -200,11 +302,28 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
+        appointmentPredicate = predicate;
+        haveVisiblePersonsChanged = false;
         // It is important to check whether the client of the corresponding
         // appointment is in the list or not
-        filteredAppointments.setPredicate(
-                appt -> getPerson(appt.getClientName().toString()) != null
-                        && predicate.test(appt));
+        parallelFilter.apply(addressBook.getAppointmentList(),
+                appt -> visiblePersonNames.contains(appt.getClientName())
+                        && predicate.test(appt),
+                filteredAppointments::setPredicate);
+    }
+
+    @Override
+    public QueryPlan<Appointment> updateFilteredAppointmentList(AppointmentQuery query) {
+        requireNonNull(query);
+        QueryPlan<Appointment> plan = QueryPlan.plan("appointments", addressBook.getAppointmentList().size(), () ->
+                addressBook.getAppointmentAccessPaths(query), query.compile());
+        plan.execute(this::updateFilteredAppointmentList);
+        return plan;
+    }
+
+    @Override
+    public boolean hasPendingFilters() {
+        return parallelFilter.isPending();
     }
 
     @Override
@@ -226,17 +345,6 @@ public class ModelManager implements Model {
         return addressBookEqual && userPrefsEqual && filteredPersonsEqual && filteredAppointmentsEqual;
     }
 
-    public Person getPerson(String name) {
-        for (int i = 0; i < filteredPersons.size(); i++) {
-            Person curr = filteredPersons.get(i);
-            String tempName = curr.getName().toString().trim();
-            if (tempName.equals(name)) {
-                return curr;
-            }
-        }
-        return null;
-    }
-
     @Override
     public void setViewMode(ViewMode mode) {
         visibleViewMode.set(mode);
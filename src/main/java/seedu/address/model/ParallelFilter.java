@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Applies filters to the filtered lists of the model, evaluating them in parallel when the list is large.
+ * A {@code FilteredList} tests every element against its predicate one by one on the calling thread.
+ * Above the threshold, the filter is instead evaluated across all cores with fork/join on a snapshot of the
+ * list, and the list is then given a predicate that looks up the answers for the elements of the snapshot.
+ * The list still publishes the result in a single change event, but no longer spends that time evaluating the
+ * filter.
+ * <p>
+ * When applied on the JavaFX application thread, the filter is evaluated in the background and the result is
+ * published later on that thread, so that the user interface stays responsive in the meantime. Filters applied
+ * to a list are published in the order they were applied, and one is skipped if another is applied to the same
+ * list before its evaluation starts. Elements added to the list or replaced in the meantime are tested against
+ * the filter itself when the result is published.
+ * <p>
+ * The filter is evaluated from several threads at once, while the application thread may change the lists,
+ * so it may only read state that is safe to read concurrently, and may only cache values it publishes safely.
+ */
+class ParallelFilter {
+
+    // fewer elements than this are not worth handing to another thread
+    private static final int MIN_BATCH_SIZE = 1024;
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ParallelFilter.class);
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+    private final BooleanSupplier isInBackground;
+    private final Executor publisher;
+
+    // only accessed by the publishing thread, when filters are evaluated in the background
+    private final Map<List<?>, Object> latestFilters = new IdentityHashMap<>();
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a filter engine that evaluates filters in parallel on lists of at least {@code threshold} elements.
+     */
+    ParallelFilter(int threshold) {
+        this(threshold, ForkJoinPool.commonPool(), Platform::isFxApplicationThread, Platform::runLater);
+    }
+
+    ParallelFilter(int threshold, ForkJoinPool pool) {
+        this(threshold, pool, () -> false, Runnable::run);
+    }
+
+    /**
+     * Creates a filter engine that evaluates filters in the background when {@code isInBackground} is true for
+     * the thread applying them, publishing them through {@code publisher}, which must run them on that thread.
+     */
+    ParallelFilter(int threshold, ForkJoinPool pool, BooleanSupplier isInBackground, Executor publisher) {
+        this.threshold = threshold;
+        this.pool = pool;
+        this.isInBackground = isInBackground;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Passes a predicate with the same result as {@code filter} to {@code applyFilter}, such as
+     * {@code FilteredList#setPredicate}, where {@code elements} is the source of the filtered list.
+     * The predicate may be passed after this method returns, as described in the class description.
+     */
+    <T> void apply(List<T> elements, Predicate<T> filter, Consumer<Predicate<T>> applyFilter) {
+        requireAllNonNull(elements, filter, applyFilter);
+        if (pending.isDone() && elements.size() < threshold) {
+            applyFilter.accept(filter);
+            return;
+        }
+        if (!isInBackground.getAsBoolean()) {
+            publish(evaluate(elements.toArray(), filter), filter, applyFilter);
+            return;
+        }
+
+        latestFilters.put(elements, filter);
+        // each stage waits for the filters applied before it to be published, so that a filter that depends on
+        // another filtered list sees its result
+        pending = pending
+                .thenApplyAsync(ignored -> latestFilters.get(elements) == filter ? elements.toArray() : null,
+                        publisher)
+                .thenApplyAsync(snapshot -> snapshot == null ? null : evaluate(snapshot, filter), pool)
+                .thenAcceptAsync(answers -> {
+                    if (answers != null && latestFilters.get(elements) == filter) {
+                        publish(answers, filter, applyFilter);
+                    }
+                }, publisher)
+                .exceptionally(e -> {
+                    // the filters applied after this one must still be published
+                    logger.warning("Failed to filter a list in the background: " + e);
+                    return null;
+                });
+    }
+
+    /**
+     * Returns true if a filter applied in the background has yet to be published.
+     */
+    boolean isPending() {
+        return !pending.isDone();
+    }
+
+    /**
+     * Returns the elements of {@code snapshot}, mapped to whether they pass {@code filter}.
+     * None are mapped if the snapshot is too small to be evaluated in parallel.
+     */
+    private <T> Map<Object, Boolean> evaluate(Object[] snapshot, Predicate<T> filter) {
+        if (snapshot.length < threshold) {
+            return Collections.emptyMap();
+        }
+        boolean[] isMatch = new boolean[snapshot.length];
+        int batchSize = Math.max(MIN_BATCH_SIZE, snapshot.length / (pool.getParallelism() * BATCHES_PER_THREAD));
+        pool.invoke(new EvaluateTask<>(snapshot, isMatch, filter, 0, snapshot.length, batchSize));
+
+        Map<Object, Boolean> answers = new IdentityHashMap<>(snapshot.length);
+        for (int i = 0; i < snapshot.length; i++) {
+            answers.put(snapshot[i], isMatch[i]);
+        }
+        return answers;
+    }
+
+    /**
+     * Passes {@code filter} to {@code applyFilter}, answering from {@code answers} for the elements it maps.
+     */
+    private static <T> void publish(Map<Object, Boolean> answers, Predicate<T> filter,
+            Consumer<Predicate<T>> applyFilter) {
+        if (answers.isEmpty()) {
+            applyFilter.accept(filter);
+            return;
+        }
+        PrecomputedFilter<T> precomputed = new PrecomputedFilter<>(element -> {
+            Boolean answer = answers.get(element);
+            return answer == null ? filter.test(element) : answer;
+        }, filter);
+        applyFilter.accept(precomputed);
+        precomputed.release();
+    }
+
+    /**
+     * Evaluates the filter on a range of the snapshot, splitting it in half until it is no larger than a batch.
+     * Each batch writes to its own range of {@code isMatch}.
+     */
+    private static class EvaluateTask<T> extends RecursiveAction {
+        private final Object[] snapshot;
+        private final boolean[] isMatch;
+        private final Predicate<T> filter;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        EvaluateTask(Object[] snapshot, boolean[] isMatch, Predicate<T> filter, int from, int to, int batchSize) {
+            this.snapshot = snapshot;
+            this.isMatch = isMatch;
+            this.filter = filter;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= batchSize) {
+                for (int i = from; i < to; i++) {
+                    isMatch[i] = filter.test((T) snapshot[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluateTask<>(snapshot, isMatch, filter, from, middle, batchSize),
+                    new EvaluateTask<>(snapshot, isMatch, filter, middle, to, batchSize));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that answers from a precomputed answer while a filtered list is refiltered, and evaluates the
+ * filter itself once released, when the list only tests elements that are added or changed.
+ * The precomputed answer only holds for the elements present when it was computed, so a filtered list must not
+ * keep it once an element may have been replaced.
+ */
+class PrecomputedFilter<T> implements Predicate<T> {
+    private final Predicate<T> filter;
+    private Predicate<T> precomputed;
+
+    PrecomputedFilter(Predicate<T> precomputed, Predicate<T> filter) {
+        this.precomputed = precomputed;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean test(T element) {
+        return precomputed == null ? filter.test(element) : precomputed.test(element);
+    }
+
+    void release() {
+        precomputed = null;
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A plan for filtering a list by a query.
+ * Among the access paths that apply to the query, the planner chooses the one expected to find the fewest
+ * candidates, and falls back to a full scan if none is expected to find fewer than all elements.
+ * Every candidate is then checked against the whole query, which acts as the residual filter.
+ *
+ * A plan also records how long each of its stages took, so that {@link #explain()} can show why a query is slow.
+ *
+ * @param <T> the type of the elements of the list
+ */
+public class QueryPlan<T> {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String target;
+    private final int totalSize;
+    private final List<AccessPath<T>> accessPaths;
+    private final Optional<AccessPath<T>> chosenPath;
+    private final Predicate<T> residualFilter;
+    private final long planningNanos;
+    private int candidateCount;
+    private long candidateNanos;
+    private long filterNanos;
+
+    private QueryPlan(String target, int totalSize, List<AccessPath<T>> accessPaths,
+                      Predicate<T> residualFilter, long planningNanos) {
+        this.target = target;
+        this.totalSize = totalSize;
+        this.accessPaths = accessPaths;
+        this.chosenPath = accessPaths.stream()
+                .filter(path -> path.getEstimatedSize() < totalSize)
+                .min(Comparator.comparingInt(AccessPath::getEstimatedSize));
+        this.residualFilter = residualFilter;
+        this.planningNanos = planningNanos;
+        this.candidateCount = totalSize;
+    }
+
+    /**
+     * Plans the filtering of the {@code totalSize} elements of {@code target} by {@code residualFilter},
+     * choosing among the access paths given by {@code accessPaths}.
+     */
+    public static <T> QueryPlan<T> plan(String target, int totalSize, Supplier<List<AccessPath<T>>> accessPaths,
+                                        Predicate<T> residualFilter) {
+        requireAllNonNull(target, accessPaths, residualFilter);
+        long start = System.nanoTime();
+        List<AccessPath<T>> paths = accessPaths.get();
+        return new QueryPlan<>(target, totalSize, paths, residualFilter, System.nanoTime() - start);
+    }
+
+    public Optional<AccessPath<T>> getChosenPath() {
+        return chosenPath;
+    }
+
+    /**
+     * Executes this plan by finding the candidates through the chosen access path and passing the resulting
+     * filter to {@code applyFilter}, such as {@code FilteredList#setPredicate}.
+     * The filter only checks the candidates while {@code applyFilter} runs. Afterwards it evaluates the whole
+     * query on each element it is given, so that it stays correct for elements added or replaced later.
+     */
+    public void execute(Consumer<Predicate<T>> applyFilter) {
+        long start = System.nanoTime();
+        if (chosenPath.isEmpty()) {
+            candidateNanos = 0;
+            applyFilter.accept(residualFilter);
+            filterNanos = System.nanoTime() - start;
+            return;
+        }
+        Set<T> candidates = chosenPath.get().findCandidates();
+        candidateCount = candidates.size();
+        // the candidates only speed up this refilter; elements replaced later are checked against the query
+        PrecomputedFilter<T> filter = new PrecomputedFilter<>(
+                element -> candidates.contains(element) && residualFilter.test(element), residualFilter);
+        long filterStart = System.nanoTime();
+        candidateNanos = filterStart - start;
+        applyFilter.accept(filter);
+        filter.release();
+        filterNanos = System.nanoTime() - filterStart;
+    }
+
+    /**
+     * Returns a description of the chosen access path, the other access paths considered and the time taken
+     * by each stage of the plan.
+     */
+    public String explain() {
+        String access = chosenPath.map(AccessPath::toString).orElse("full scan (~" + totalSize + ")");
+        String considered = accessPaths.isEmpty()
+                ? "none"
+                : accessPaths.stream().map(AccessPath::toString).collect(Collectors.joining(", "));
+        return String.format("%s: %s, then residual filter on %d of %d\n"
+                        + "  access paths considered: %s\n"
+                        + "  planning %.3f ms, candidates %.3f ms, filtering %.3f ms",
+                target, access, candidateCount, totalSize, considered,
+                planningNanos / NANOS_PER_MILLI, candidateNanos / NANOS_PER_MILLI, filterNanos / NANOS_PER_MILLI);
+    }
+}
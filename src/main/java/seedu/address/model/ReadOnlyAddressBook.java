@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
@@ -25,8 +25,12 @@ public interface ReadOnlyAddressBook {
     ObservableList<Appointment> getAppointmentList();
 
     /**
-     * Returns a List of all used appointmentIds.
-     * This list will not contain any duplicate appointments.
+     * Returns an unmodifiable view of all used appointmentIds.
+     */
+    Set<AppointmentId> getIdSet();
+
+    /**
+     * Returns the counter, in base 36, from which the next appointment id will be allocated.
      */
-    List<AppointmentId> getIdList();
+    String getNextAppointmentId();
 }
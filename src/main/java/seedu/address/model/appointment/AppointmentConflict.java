@@ -0,0 +1,62 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A pair of appointments whose times overlap.
+ * The first appointment starts no later than the second.
+ */
+public class AppointmentConflict {
+
+    private final Appointment first;
+    private final Appointment second;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AppointmentConflict(Appointment first, Appointment second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    public Appointment getFirst() {
+        return first;
+    }
+
+    public Appointment getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentConflict)) {
+            return false;
+        }
+
+        AppointmentConflict otherConflict = (AppointmentConflict) other;
+        return first.equals(otherConflict.first) && second.equals(otherConflict.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
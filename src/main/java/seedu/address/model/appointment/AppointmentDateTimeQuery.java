@@ -27,6 +27,10 @@ public class AppointmentDateTimeQuery {
             + "\\d{1,2}-\\d{1,2}-\\d{4}( \\d{4})? to \\d{1,2}-\\d{1,2}-\\d{4}( \\d{4})?)$";
     private final LocalDateTime start;
     private final LocalDateTime end;
+    // the range in minutes since the epoch, widened to whole minutes, which is exact as appointments
+    // start and end on whole minutes
+    private final long startMinute;
+    private final long endMinute;
 
     /**
      * Creates query object with the specified start and end DateTime.
@@ -39,6 +43,8 @@ public class AppointmentDateTimeQuery {
     ) {
         this.start = start == null ? LocalDateTime.MIN : start;
         this.end = end == null ? LocalDateTime.MAX : end;
+        this.startMinute = AppointmentTimeColumns.floorEpochMinute(this.start);
+        this.endMinute = AppointmentTimeColumns.ceilEpochMinute(this.end);
     }
 
     /**
@@ -54,6 +60,8 @@ public class AppointmentDateTimeQuery {
             this.start = current.toLocalDate().atStartOfDay();
             this.end = current.toLocalDate().atTime(23, 59, 59);
         }
+        this.startMinute = AppointmentTimeColumns.floorEpochMinute(this.start);
+        this.endMinute = AppointmentTimeColumns.ceilEpochMinute(this.end);
     }
 
     public static AppointmentDateTimeQuery empty() {
@@ -96,6 +104,14 @@ public class AppointmentDateTimeQuery {
         }
     }
 
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
     public boolean isOverlapped(AppointmentDateTimeQuery query) {
         return query != null && start.isBefore(query.end) && query.start.isBefore(end);
     }
@@ -103,12 +119,12 @@ public class AppointmentDateTimeQuery {
     /**
      * A predicate function of type {@code Predicate<AppointmentDateTime>} to filter
      * AppointmentDateTime in a collection.
+     * The times are compared as minutes since the epoch, so that filtering allocates nothing.
      */
     public boolean filter(Appointment appointment) {
-        var startTime = appointment.getDateTime().dateTime;
-        var duration = appointment.getLength().duration;
-        AppointmentDateTimeQuery query = interval(startTime, duration);
-        return this.isOverlapped(query);
+        long startTime = AppointmentTimeColumns.floorEpochMinute(appointment.getDateTime().dateTime);
+        long endTime = startTime + AppointmentTimeColumns.lengthInMinutes(appointment);
+        return startMinute < endTime && startTime < endMinute;
     }
 
     /**
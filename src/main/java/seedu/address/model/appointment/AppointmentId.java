@@ -28,4 +28,9 @@ public class AppointmentId {
         }
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
 }
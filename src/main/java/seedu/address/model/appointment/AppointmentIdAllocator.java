@@ -0,0 +1,72 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Allocates short appointment ids from a monotonic counter.
+ * Each id is the counter value in base 36, left-padded with zeros to {@value #ID_WIDTH} characters.
+ * Allocation never blocks and is safe to call from multiple threads.
+ *
+ * The value of the counter is saved with the address book, so ids are not reused across sessions.
+ */
+public class AppointmentIdAllocator {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Next appointment id must be a non-negative base 36 number (digits and lowercase letters)";
+    public static final String VALIDATION_REGEX = "[0-9a-z]{1,12}";
+    public static final int ID_WIDTH = 7;
+    private static final int RADIX = 36;
+
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * Returns true if {@code test} can be read back as a counter value.
+     */
+    public static boolean isValidCounter(String test) {
+        return test != null && test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns a fresh id for which {@code isUsed} is false and advances the counter past it.
+     * Ids that are already taken, e.g. ids from older data files, are skipped.
+     */
+    public AppointmentId allocate(Predicate<AppointmentId> isUsed) {
+        requireNonNull(isUsed);
+        AppointmentId id;
+        do {
+            id = new AppointmentId(encode(next.getAndIncrement()));
+        } while (isUsed.test(id));
+        return id;
+    }
+
+    /**
+     * Returns the counter value of the next id, in base 36.
+     */
+    public String getNext() {
+        return Long.toString(next.get(), RADIX);
+    }
+
+    /**
+     * Sets the counter so that the next id is allocated from {@code counter}, given in base 36.
+     */
+    public void setNext(String counter) {
+        checkArgument(isValidCounter(counter), MESSAGE_CONSTRAINTS);
+        next.set(Long.parseLong(counter, RADIX));
+    }
+
+    private static String encode(long value) {
+        String digits = Long.toString(value, RADIX);
+        if (digits.length() >= ID_WIDTH) {
+            return digits;
+        }
+        StringBuilder padded = new StringBuilder(ID_WIDTH);
+        for (int i = digits.length(); i < ID_WIDTH; i++) {
+            padded.append('0');
+        }
+        return padded.append(digits).toString();
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An interval index over appointments, ordered by start time and then end time.
+ * Each node remembers the latest end time in its subtree, so that the appointments overlapping a given
+ * time range can be found in O(log n + k) time, where k is the number of overlapping appointments.
+ *
+ * The tree is kept balanced as a treap. Appointments with the same start and end time share a node.
+ */
+class AppointmentIntervalTree {
+
+    private final Random random = new Random();
+    private Node root;
+    private int size;
+
+    /**
+     * Returns the end time of {@code appointment}.
+     */
+    static LocalDateTime endOf(Appointment appointment) {
+        return appointment.getDateTime().dateTime.plus(appointment.getLength().duration);
+    }
+
+    /**
+     * Adds {@code appointment} to the index.
+     */
+    void add(Appointment appointment) {
+        requireNonNull(appointment);
+        root = insert(root, appointment.getDateTime().dateTime, endOf(appointment), appointment);
+        size++;
+    }
+
+    /**
+     * Removes {@code appointment} from the index.
+     * Returns true if the appointment was in the index.
+     */
+    boolean remove(Appointment appointment) {
+        requireNonNull(appointment);
+        int sizeBefore = size;
+        root = delete(root, appointment.getDateTime().dateTime, endOf(appointment), appointment);
+        return size < sizeBefore;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the appointments whose time range overlaps the range from {@code start} to {@code end}.
+     * As with {@code AppointmentDateTimeQuery#isOverlapped}, ranges that only touch at an endpoint do not overlap.
+     * The appointments are returned in order of their start time.
+     */
+    List<Appointment> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        List<Appointment> overlapping = new ArrayList<>();
+        collectOverlapping(root, start, end, overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end,
+            List<Appointment> overlapping) {
+        if (node == null || !start.isBefore(node.maxEnd)) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (!node.start.isBefore(end)) {
+            // every appointment to the right starts no earlier than this one
+            return;
+        }
+        if (start.isBefore(node.end)) {
+            overlapping.addAll(node.appointments);
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    private Node insert(Node node, LocalDateTime start, LocalDateTime end, Appointment appointment) {
+        if (node == null) {
+            return new Node(start, end, appointment, random.nextInt());
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison == 0) {
+            node.appointments.add(appointment);
+            return node;
+        }
+        if (comparison > 0) {
+            node.left = insert(node.left, start, end, appointment);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, start, end, appointment);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    private Node delete(Node node, LocalDateTime start, LocalDateTime end, Appointment appointment) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison > 0) {
+            node.left = delete(node.left, start, end, appointment);
+        } else if (comparison < 0) {
+            node.right = delete(node.right, start, end, appointment);
+        } else {
+            if (!node.appointments.remove(appointment)) {
+                return node;
+            }
+            size--;
+            if (node.appointments.isEmpty()) {
+                return merge(node.left, node.right);
+            }
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every key in {@code left} is smaller than every key in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateMaxEnd();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.updateMaxEnd();
+        pivot.updateMaxEnd();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.updateMaxEnd();
+        pivot.updateMaxEnd();
+        return pivot;
+    }
+
+    /**
+     * A node holding all appointments with the same start and end time.
+     */
+    private static class Node {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final List<Appointment> appointments = new ArrayList<>(1);
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(LocalDateTime start, LocalDateTime end, Appointment appointment, int priority) {
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+            appointments.add(appointment);
+        }
+
+        int compareTo(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            int comparison = start.compareTo(otherStart);
+            return comparison != 0 ? comparison : end.compareTo(otherEnd);
+        }
+
+        void updateMaxEnd() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
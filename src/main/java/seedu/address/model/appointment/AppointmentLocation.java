@@ -3,6 +3,8 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the location of an appointment.
  */
@@ -13,6 +15,8 @@ public class AppointmentLocation {
     public static final String VALIDATION_REGEX = "^[\\p{Alnum} ,.#\\-/()';&:]*$";
     public static final String NO_LOCATION = "";
 
+    private static final Interner<AppointmentLocation> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -24,6 +28,14 @@ public class AppointmentLocation {
         this.value = location;
     }
 
+    /**
+     * Returns the {@code AppointmentLocation} given by {@code location}, which must be a valid location.
+     * Equal values share a single instance.
+     */
+    public static AppointmentLocation of(String location) {
+        return INTERNER.intern(new AppointmentLocation(location));
+    }
+
     public static boolean isValidLocation(String test) {
         return test.equals("") || test.matches(VALIDATION_REGEX);
     }
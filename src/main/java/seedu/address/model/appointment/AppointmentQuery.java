@@ -1,10 +1,13 @@
 package seedu.address.model.appointment;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
-
+import seedu.address.model.util.Conjunction;
 
 /**
  * Represents a query object to find Appointment in the address book.
@@ -16,6 +19,9 @@ public class AppointmentQuery {
     private Optional<AppointmentType> type;
     private Optional<AppointmentDateTimeQuery> dateTime;
 
+    // compiled lazily and discarded whenever the query changes
+    private Predicate<Appointment> compiledFilter;
+
     /**
      * Represents empty query
      */
@@ -43,35 +49,58 @@ public class AppointmentQuery {
 
     public AppointmentQuery setDateTime(AppointmentDateTimeQuery dateTime) {
         this.dateTime = Optional.ofNullable(dateTime);
+        compiledFilter = null;
         return this;
     }
 
     public AppointmentQuery setType(AppointmentType type) {
         this.type = Optional.ofNullable(type);
+        compiledFilter = null;
         return this;
     }
 
     public AppointmentQuery setStatus(AppointmentStatus status) {
         this.status = Optional.ofNullable(status);
+        compiledFilter = null;
         return this;
     }
 
+    public Optional<AppointmentStatus> getStatus() {
+        return status;
+    }
+
+    public Optional<AppointmentType> getType() {
+        return type;
+    }
+
+    public Optional<AppointmentDateTimeQuery> getDateTime() {
+        return dateTime;
+    }
+
     /**
      * Tests whether the given appointment matches this query.
      * @param appointment The appointment to test
      * @return true if the appointment matches all non-empty filter criteria
      */
     public boolean filter(Appointment appointment) {
-        boolean matchesDateTime = dateTime
-            .map(dt -> dt.filter(appointment))
-            .orElse(true);
-        boolean matchesStatus = status
-            .map(s -> appointment.getStatus().equals(s))
-            .orElse(true);
-        boolean matchesType = type
-            .map(t -> appointment.getType().equals(t))
-            .orElse(true);
-        return matchesDateTime && matchesStatus && matchesType;
+        return compile().test(appointment);
+    }
+
+    /**
+     * Returns this query compiled into a predicate with the same result as {@link #filter(Appointment)}.
+     * The predicate only checks the fields present in the query, with the cheapest checks first, and stops at
+     * the first one that fails, so that testing an appointment allocates nothing.
+     */
+    public Predicate<Appointment> compile() {
+        if (compiledFilter != null) {
+            return compiledFilter;
+        }
+        List<Predicate<? super Appointment>> clauses = new ArrayList<>();
+        status.ifPresent(queryStatus -> clauses.add(appointment -> appointment.getStatus().equals(queryStatus)));
+        type.ifPresent(queryType -> clauses.add(appointment -> appointment.getType().equals(queryType)));
+        dateTime.ifPresent(queryDateTime -> clauses.add(queryDateTime::filter));
+        compiledFilter = Conjunction.of(clauses);
+        return compiledFilter;
     }
 
     /**
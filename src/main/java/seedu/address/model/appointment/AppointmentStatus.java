@@ -3,6 +3,8 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the status of an appointment.
  * Must be one of planned, confirmed, completed, cancelled.
@@ -12,6 +14,8 @@ public class AppointmentStatus {
     public static final String MESSAGE_CONSTRAINTS =
         "Status must be one of: planned, confirmed, completed, cancelled";
 
+    private static final Interner<AppointmentStatus> INTERNER = new Interner<>();
+
     public final AppointmentStatusType value;
 
     /**
@@ -28,6 +32,14 @@ public class AppointmentStatus {
         this.value = stringToStatus(trimmedStatus);
     }
 
+    /**
+     * Returns the {@code AppointmentStatus} given by {@code status}, as in the constructor.
+     * Equal values share a single instance.
+     */
+    public static AppointmentStatus of(String status) {
+        return INTERNER.intern(new AppointmentStatus(status));
+    }
+
     /**
      * Converts a string to the corresponding enum type.
      */
@@ -0,0 +1,303 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A columnar store of the times of appointments, kept sorted by start time.
+ * The start time of every appointment is held in a {@code long[]} of minutes since the epoch and its length
+ * in a parallel {@code int[]} of minutes, so that the appointments overlapping a time range are found by
+ * a binary search followed by a scan over primitive arrays, without creating any {@code LocalDateTime}.
+ *
+ * Appointments with the same start time are kept in the order in which they were added.
+ */
+class AppointmentTimeColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private Appointment[] appointments = new Appointment[INITIAL_CAPACITY];
+    private int size;
+    // an upper bound of the lengths, which bounds how far back the scan for a time range has to start
+    private int maxLength;
+
+    /**
+     * Returns the start of the minute that {@code dateTime} falls in, in minutes since the epoch.
+     */
+    static long floorEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the first minute since the epoch that is not earlier than {@code dateTime}.
+     */
+    static long ceilEpochMinute(LocalDateTime dateTime) {
+        long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        boolean isWholeMinute = Math.floorMod(seconds, SECONDS_PER_MINUTE) == 0 && dateTime.getNano() == 0;
+        return Math.floorDiv(seconds, SECONDS_PER_MINUTE) + (isWholeMinute ? 0 : 1);
+    }
+
+    /**
+     * Returns the length of {@code appointment} in minutes.
+     */
+    static int lengthInMinutes(Appointment appointment) {
+        return (int) appointment.getLength().duration.toMinutes();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code appointment}, after any appointments with the same start time.
+     */
+    void add(Appointment appointment) {
+        requireNonNull(appointment);
+        ensureCapacity(size + 1);
+        long start = floorEpochMinute(appointment.getDateTime().dateTime);
+        int position = firstStartingAfter(start);
+        System.arraycopy(starts, position, starts, position + 1, size - position);
+        System.arraycopy(lengths, position, lengths, position + 1, size - position);
+        System.arraycopy(appointments, position, appointments, position + 1, size - position);
+        set(position, start, appointment);
+        size++;
+    }
+
+    /**
+     * Adds all of {@code toAdd}.
+     * Many appointments are appended and then sorted together, which takes linear time if they are already in
+     * order of start time and O(n log n) time otherwise, rather than the quadratic time of adding them one by one.
+     */
+    void addAll(List<? extends Appointment> toAdd) {
+        requireNonNull(toAdd);
+        if (toAdd.size() == 1) {
+            add(toAdd.get(0));
+            return;
+        }
+        ensureCapacity(size + toAdd.size());
+        boolean isSorted = true;
+        for (Appointment appointment : toAdd) {
+            long start = floorEpochMinute(appointment.getDateTime().dateTime);
+            isSorted &= size == 0 || starts[size - 1] <= start;
+            set(size, start, appointment);
+            size++;
+        }
+        if (!isSorted) {
+            sort();
+        }
+    }
+
+    /**
+     * Removes {@code appointment}.
+     * Returns true if the appointment was in the store.
+     */
+    boolean remove(Appointment appointment) {
+        requireNonNull(appointment);
+        long start = floorEpochMinute(appointment.getDateTime().dateTime);
+        for (int i = firstStartingAfter(start - 1); i < size && starts[i] == start; i++) {
+            if (appointments[i] == appointment) {
+                System.arraycopy(starts, i + 1, starts, i, size - i - 1);
+                System.arraycopy(lengths, i + 1, lengths, i, size - i - 1);
+                System.arraycopy(appointments, i + 1, appointments, i, size - i - 1);
+                appointments[--size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all of {@code toRemove} in a single pass over the store.
+     */
+    void removeAll(List<? extends Appointment> toRemove) {
+        requireNonNull(toRemove);
+        if (toRemove.size() <= 1) {
+            toRemove.forEach(this::remove);
+            return;
+        }
+        Set<Appointment> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(toRemove);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed.contains(appointments[i])) {
+                starts[kept] = starts[i];
+                lengths[kept] = lengths[i];
+                appointments[kept] = appointments[i];
+                kept++;
+            }
+        }
+        Arrays.fill(appointments, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Returns the number of appointments whose time range overlaps the range from {@code start} to {@code end}.
+     * Nothing is allocated, so this is cheap enough to estimate the size of a query.
+     */
+    int countOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        long startMinute = floorEpochMinute(start);
+        long endMinute = ceilEpochMinute(end);
+        int count = 0;
+        for (int i = firstCandidate(startMinute), to = firstStartingAfter(endMinute - 1); i < to; i++) {
+            if (startMinute < starts[i] + lengths[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the appointments whose time range overlaps the range from {@code start} to {@code end},
+     * in order of their start time.
+     * As with {@code AppointmentDateTimeQuery#filter}, ranges that only touch at an endpoint do not overlap.
+     */
+    List<Appointment> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        long startMinute = floorEpochMinute(start);
+        long endMinute = ceilEpochMinute(end);
+        List<Appointment> overlapping = new ArrayList<>();
+        for (int i = firstCandidate(startMinute), to = firstStartingAfter(endMinute - 1); i < to; i++) {
+            if (startMinute < starts[i] + lengths[i]) {
+                overlapping.add(appointments[i]);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the first {@code count} appointments that start at or after {@code from} and satisfy {@code filter},
+     * in order of their start time.
+     * The scan starts from a binary search and stops as soon as enough appointments are found, so it only visits
+     * the appointments returned and those skipped by {@code filter}.
+     */
+    List<Appointment> findStartingFrom(LocalDateTime from, int count, Predicate<? super Appointment> filter) {
+        requireNonNull(from);
+        requireNonNull(filter);
+        List<Appointment> found = new ArrayList<>(Math.min(count, size));
+        for (int i = firstStartingAfter(ceilEpochMinute(from) - 1); i < size && found.size() < count; i++) {
+            if (filter.test(appointments[i])) {
+                found.add(appointments[i]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns every pair of appointments satisfying {@code filter} whose time ranges overlap and whose keys given by
+     * {@code groupKey} are equal. Appointments whose key is null are left out.
+     * The store is already sorted by start time, so a single sweep finds the pairs: the appointments of each group
+     * that have started but not ended are kept in a queue ordered by end time, and each appointment overlaps
+     * exactly those that are still in the queue of its group when it starts. This takes O(n log n + k) time for
+     * k pairs. As with {@link #findOverlapping}, ranges that only touch at an endpoint do not overlap.
+     */
+    List<AppointmentConflict> findConflicts(Predicate<? super Appointment> filter,
+                                            Function<? super Appointment, ?> groupKey) {
+        requireNonNull(filter);
+        requireNonNull(groupKey);
+        Map<Object, PriorityQueue<Integer>> ongoingByGroup = new HashMap<>();
+        List<AppointmentConflict> conflicts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Object key = filter.test(appointments[i]) ? groupKey.apply(appointments[i]) : null;
+            if (key == null) {
+                continue;
+            }
+            PriorityQueue<Integer> ongoing = ongoingByGroup.computeIfAbsent(key, unused ->
+                    new PriorityQueue<>(Comparator.comparingLong(position -> starts[position] + lengths[position])));
+            while (!ongoing.isEmpty() && starts[ongoing.peek()] + lengths[ongoing.peek()] <= starts[i]) {
+                ongoing.poll();
+            }
+            for (int position : ongoing) {
+                conflicts.add(new AppointmentConflict(appointments[position], appointments[i]));
+            }
+            ongoing.add(i);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the position of the first appointment that may end after {@code startMinute}.
+     * No appointment is longer than {@code maxLength}, so every earlier one ends by {@code startMinute}.
+     */
+    private int firstCandidate(long startMinute) {
+        return firstStartingAfter(startMinute - maxLength);
+    }
+
+    /**
+     * Returns the position of the first appointment that starts after {@code minute}, or the size of the store
+     * if there is none.
+     */
+    private int firstStartingAfter(long minute) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= minute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void set(int position, long start, Appointment appointment) {
+        int length = lengthInMinutes(appointment);
+        starts[position] = start;
+        lengths[position] = length;
+        appointments[position] = appointment;
+        maxLength = Math.max(maxLength, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > appointments.length) {
+            int newCapacity = Math.max(capacity, appointments.length * 2);
+            starts = Arrays.copyOf(starts, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+            appointments = Arrays.copyOf(appointments, newCapacity);
+        }
+    }
+
+    /**
+     * Sorts the store by start time, keeping the order of appointments with the same start time.
+     * The upper bound of the lengths is recomputed, as it may have been left too high by removals.
+     */
+    private void sort() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> starts[i]));
+        long[] sortedStarts = new long[starts.length];
+        int[] sortedLengths = new int[lengths.length];
+        Appointment[] sortedAppointments = new Appointment[appointments.length];
+        maxLength = 0;
+        for (int i = 0; i < size; i++) {
+            sortedStarts[i] = starts[order[i]];
+            sortedLengths[i] = lengths[order[i]];
+            sortedAppointments[i] = appointments[order[i]];
+            maxLength = Math.max(maxLength, sortedLengths[i]);
+        }
+        starts = sortedStarts;
+        lengths = sortedLengths;
+        appointments = sortedAppointments;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the type of appointment (e.g., home-visit, clinic, meeting).
  */
@@ -9,6 +11,8 @@ public class AppointmentType {
 
     public static final String NO_TYPE = "";
 
+    private static final Interner<AppointmentType> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -19,6 +23,14 @@ public class AppointmentType {
         this.value = type.trim();
     }
 
+    /**
+     * Returns the {@code AppointmentType} given by {@code type}, as in the constructor.
+     * Equal values share a single instance.
+     */
+    public static AppointmentType of(String type) {
+        return INTERNER.intern(new AppointmentType(type));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
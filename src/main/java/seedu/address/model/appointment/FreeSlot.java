@@ -0,0 +1,60 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.model.util.DateTimeUtil;
+
+/**
+ * A free period of time, from its start up to but excluding its end.
+ */
+public class FreeSlot {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Every field must be present and not null, and {@code start} must be before {@code end}.
+     */
+    public FreeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        assert start.isBefore(end);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return start.equals(otherSlot.start) && end.equals(otherSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return DateTimeUtil.stringFromLocalDateTime(start) + " to " + DateTimeUtil.stringFromLocalDateTime(end);
+    }
+}
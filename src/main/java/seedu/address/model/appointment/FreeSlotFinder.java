@@ -0,0 +1,80 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the free slots long enough for an appointment within the working hours of each day.
+ * The busy appointments are walked once in order of start time, merging those that overlap, and the gaps
+ * between them are the free slots. Free slots never span two days.
+ */
+public class FreeSlotFinder {
+
+    private final Duration length;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+
+    /**
+     * Creates a finder of free slots of at least {@code length}, from {@code dayStart} to {@code dayEnd} of each
+     * day. {@code dayStart} must be before {@code dayEnd}.
+     */
+    public FreeSlotFinder(Duration length, LocalTime dayStart, LocalTime dayEnd) {
+        requireAllNonNull(length, dayStart, dayEnd);
+        assert dayStart.isBefore(dayEnd);
+        this.length = length;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+    }
+
+    /**
+     * Returns the earliest {@code count} free slots between {@code from} and {@code to}, around the {@code busy}
+     * appointments, which must be in order of their start time.
+     */
+    public List<FreeSlot> find(List<Appointment> busy, LocalDateTime from, LocalDateTime to, int count) {
+        requireAllNonNull(busy, from, to);
+        List<FreeSlot> slots = new ArrayList<>();
+        int next = 0;
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()) && slots.size() < count;
+                day = day.plusDays(1)) {
+            LocalDateTime windowEnd = min(to, day.atTime(dayEnd));
+            LocalDateTime free = max(from, day.atTime(dayStart));
+            while (next < busy.size() && free.isBefore(windowEnd)) {
+                Appointment appointment = busy.get(next);
+                LocalDateTime busyStart = appointment.getDateTime().dateTime;
+                if (!busyStart.isBefore(windowEnd)) {
+                    break;
+                }
+                addIfLongEnough(slots, free, busyStart);
+                LocalDateTime busyEnd = AppointmentIntervalTree.endOf(appointment);
+                free = max(free, busyEnd);
+                if (busyEnd.isAfter(windowEnd)) {
+                    // the appointment may still be busy on the next day
+                    break;
+                }
+                next++;
+            }
+            addIfLongEnough(slots, free, windowEnd);
+        }
+        return slots.size() > count ? slots.subList(0, count) : slots;
+    }
+
+    private void addIfLongEnough(List<FreeSlot> slots, LocalDateTime start, LocalDateTime end) {
+        if (start.plus(length).compareTo(end) <= 0) {
+            slots.add(new FreeSlot(start, end));
+        }
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
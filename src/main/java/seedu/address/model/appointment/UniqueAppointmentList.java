@@ -3,14 +3,25 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Name;
+import seedu.address.model.util.BitmapIndex;
+import seedu.address.model.util.UniquenessUtil;
 
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +31,16 @@ import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
  * UniqueAppointmentList. However, the removal of an appointment uses Appointment#equals(Object) so
  * as to ensure that the appointment with exactly the same fields will be removed.
  *
+ * The positions of the appointments are kept in a hash map keyed by their identities, so that uniqueness is
+ * checked and an appointment is found for editing without scanning the whole list. The appointments are
+ * additionally indexed by client name and by their start and end time, confirmed appointments are also
+ * indexed per client by their start and end time, and the appointments of each client that are not cancelled are
+ * kept sorted by start time, so that a client's appointments, the appointments in a time range, clashes and a
+ * client's next appointments can be found without scanning the whole list.
+ * Bitmap indexes of the positions of the appointments of each status and of each type answer status and type
+ * filters. The indexes are updated from the change events of the backing list and hence stay in sync with every
+ * modification.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Appointment#isSameAppointment(Appointment)
@@ -29,23 +50,167 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Appointment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, ObservableList<Appointment>> appointmentsByClient = new HashMap<>();
+    private final Map<Name, ObservableList<Appointment>> unmodifiableAppointmentsByClient = new HashMap<>();
+    private final Map<Name, AppointmentIntervalTree> confirmedAppointmentsByClient = new HashMap<>();
+    private final Map<Name, AppointmentTimeColumns> activeAppointmentTimesByClient = new HashMap<>();
+    private final AppointmentTimeColumns appointmentTimes = new AppointmentTimeColumns();
+    private final Map<AppointmentIdentity, Integer> positions = new HashMap<>();
+    private final BitmapIndex<AppointmentStatusType, Appointment> statusIndex =
+            BitmapIndex.of(internalList, appointment -> appointment.getStatus().value);
+    private final BitmapIndex<String, Appointment> typeIndex =
+            BitmapIndex.of(internalList, appointment -> appointment.getType().value);
+
+    /**
+     * Creates an empty list whose indexes follow every change to the list.
+     */
+    public UniqueAppointmentList() {
+        internalList.addListener(this::updateIndexes);
+        internalList.addListener(this::updatePositions);
+    }
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return positions.containsKey(new AppointmentIdentity(toCheck));
     }
 
     /**
-     * Returns {@code Appointment} instance based on the given {@code AppointmentQuery}
+     * Returns the appointments of the client named {@code clientName} as an unmodifiable {@code ObservableList}.
+     * The returned list is a live view that follows every later change to this list.
      */
-    public Appointment containsQuery(Predicate<Appointment> toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().filter(toCheck)
-            .findFirst()
-            .orElse(null);
+    public ObservableList<Appointment> getAppointmentsOf(Name clientName) {
+        requireNonNull(clientName);
+        return unmodifiableAppointmentsByClient.computeIfAbsent(clientName, name ->
+                FXCollections.unmodifiableObservableList(clientAppointments(name)));
+    }
+
+    /**
+     * Removes all appointments of the client named {@code clientName} from the list.
+     */
+    public void removeAppointmentsOf(Name clientName) {
+        requireNonNull(clientName);
+        ObservableList<Appointment> clientAppointments = appointmentsByClient.get(clientName);
+        if (clientAppointments != null && !clientAppointments.isEmpty()) {
+            internalList.removeAll(new HashSet<>(clientAppointments));
+        }
+    }
+
+    /**
+     * Drops the list of appointments of the client named {@code clientName} if it is empty.
+     * The lists of appointments by client are created whenever a client is looked up, so this is called once the
+     * client leaves the address book, to keep them from growing with every name ever looked up.
+     */
+    public void releaseAppointmentsOf(Name clientName) {
+        requireNonNull(clientName);
+        ObservableList<Appointment> clientAppointments = appointmentsByClient.get(clientName);
+        if (clientAppointments != null && clientAppointments.isEmpty()) {
+            appointmentsByClient.remove(clientName);
+            unmodifiableAppointmentsByClient.remove(clientName);
+        }
+    }
+
+    /**
+     * Returns a confirmed appointment of the same client whose time overlaps with {@code appointment},
+     * or null if there is none. Appointments with the same id as {@code appointment} are ignored.
+     * Only confirmed appointments can clash.
+     */
+    public Appointment getClashedAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        if (!isConfirmed(appointment)) {
+            return null;
+        }
+        AppointmentIntervalTree clientAppointments = confirmedAppointmentsByClient.get(appointment.getClientName());
+        if (clientAppointments == null) {
+            return null;
+        }
+        LocalDateTime start = appointment.getDateTime().dateTime;
+        LocalDateTime end = AppointmentIntervalTree.endOf(appointment);
+        return clientAppointments.findOverlapping(start, end).stream()
+                .filter(appt -> !appt.getId().equals(appointment.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the confirmed appointments of the client named {@code clientName} whose time overlaps with the range
+     * from {@code start} to {@code end}, in order of their start time.
+     */
+    public List<Appointment> getConfirmedAppointmentsOf(Name clientName, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(clientName, start, end);
+        AppointmentIntervalTree clientAppointments = confirmedAppointmentsByClient.get(clientName);
+        return clientAppointments == null ? List.of() : clientAppointments.findOverlapping(start, end);
+    }
+
+    /**
+     * Returns the appointments whose time overlaps with the range from {@code start} to {@code end}.
+     */
+    public List<Appointment> getAppointmentsOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return appointmentTimes.findOverlapping(start, end);
+    }
+
+    /**
+     * Returns the next {@code count} appointments that are not cancelled, start at or after {@code from} and
+     * satisfy {@code filter}, in order of their start time.
+     */
+    public List<Appointment> getUpcomingAppointments(LocalDateTime from, int count,
+                                                     Predicate<? super Appointment> filter) {
+        requireAllNonNull(from, filter);
+        return appointmentTimes.findStartingFrom(from, count, appointment ->
+                appointment.getStatus().value != AppointmentStatusType.CANCELLED && filter.test(appointment));
+    }
+
+    /**
+     * Returns the next {@code count} appointments of the client named {@code clientName} that are not cancelled
+     * and start at or after {@code from}, in order of their start time.
+     * The appointments of each client that are not cancelled are kept sorted by start time, so this takes
+     * O(log m + count) time for a client with m appointments.
+     */
+    public List<Appointment> getUpcomingAppointmentsOf(Name clientName, LocalDateTime from, int count) {
+        requireAllNonNull(clientName, from);
+        AppointmentTimeColumns clientAppointmentTimes = activeAppointmentTimesByClient.get(clientName);
+        if (clientAppointmentTimes == null) {
+            return List.of();
+        }
+        return clientAppointmentTimes.findStartingFrom(from, count, appointment -> true);
+    }
+
+    /**
+     * Returns every pair of confirmed appointments whose times overlap and whose keys given by {@code groupKey}
+     * are equal, ordered by the start of the later appointment of each pair.
+     * Appointments whose key is null are left out.
+     */
+    public List<AppointmentConflict> getConfirmedConflicts(Function<? super Appointment, ?> groupKey) {
+        requireNonNull(groupKey);
+        return appointmentTimes.findConflicts(UniqueAppointmentList::isConfirmed, groupKey);
+    }
+
+    /**
+     * Returns the number of appointments whose time overlaps with the range from {@code start} to {@code end},
+     * without finding the appointments themselves.
+     */
+    public int countAppointmentsOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return appointmentTimes.countOverlapping(start, end);
+    }
+
+    /**
+     * Returns the positions of the appointments with the given {@code status}.
+     */
+    public BitSet getPositionsWithStatus(AppointmentStatusType status) {
+        requireNonNull(status);
+        return statusIndex.get(status);
+    }
+
+    /**
+     * Returns the positions of the appointments of the given {@code type}.
+     */
+    public BitSet getPositionsWithType(AppointmentType type) {
+        requireNonNull(type);
+        return typeIndex.get(type.value);
     }
 
     /**
@@ -69,14 +234,8 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = -1;
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSameAppointment(target)) {
-                index = i;
-                break;
-            }
-        }
-        if (index == -1) {
+        Integer index = positions.get(new AppointmentIdentity(target));
+        if (index == null) {
             throw new AppointmentNotFoundException();
         }
 
@@ -93,9 +252,11 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.get(new AppointmentIdentity(toRemove));
+        if (index == null || !internalList.get(index).equals(toRemove)) {
             throw new AppointmentNotFoundException();
         }
+        internalList.remove((int) index);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
@@ -109,8 +270,9 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        List<String> duplicates = UniquenessUtil.findDuplicates(appointments, AppointmentIdentity::new);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAppointmentException(duplicates);
         }
 
         internalList.setAll(appointments);
@@ -152,17 +314,147 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalList.toString();
     }
 
+    private static boolean isConfirmed(Appointment appointment) {
+        return appointment.getStatus().value == AppointmentStatusType.CONFIRMED;
+    }
+
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns the modifiable list of appointments of the client named {@code clientName}.
+     * Lists are kept even when they become empty, as views of them may still be in use, until they are released
+     * through {@link #releaseAppointmentsOf(Name)}.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
+    private ObservableList<Appointment> clientAppointments(Name clientName) {
+        return appointmentsByClient.computeIfAbsent(clientName, name -> FXCollections.observableArrayList());
+    }
+
+    private void updateIndexes(ListChangeListener.Change<? extends Appointment> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Appointment> removed = change.getRemoved();
+            List<? extends Appointment> added = change.getAddedSubList();
+            for (int i = 0; i < removed.size(); i++) {
+                Appointment replacement = i < added.size() ? added.get(i) : null;
+                if (replacement != null && replacement.getClientName().equals(removed.get(i).getClientName())) {
+                    // keep the position of an edited appointment within its client's appointments
+                    ObservableList<Appointment> clientAppointments = clientAppointments(replacement.getClientName());
+                    clientAppointments.set(clientAppointments.indexOf(removed.get(i)), replacement);
+                } else {
+                    clientAppointments(removed.get(i).getClientName()).remove(removed.get(i));
+                    if (replacement != null) {
+                        clientAppointments(replacement.getClientName()).add(replacement);
+                    }
                 }
+                unindexConfirmed(removed.get(i));
+                indexConfirmed(replacement);
+                unindexActive(removed.get(i));
+                indexActive(replacement);
+            }
+            for (int i = removed.size(); i < added.size(); i++) {
+                clientAppointments(added.get(i).getClientName()).add(added.get(i));
+                indexConfirmed(added.get(i));
+                indexActive(added.get(i));
             }
+            appointmentTimes.removeAll(removed);
+            appointmentTimes.addAll(added);
+        }
+    }
+
+    /**
+     * Brings {@code positions} up to date with the given change of {@code internalList}.
+     * Every appointment from the first changed position onwards is re-indexed when the size of the list changes,
+     * otherwise only the replaced range is. Adding to the end of the list and replacing an appointment thus take
+     * constant time, while removing an appointment takes time linear in the number of appointments after it, as
+     * shifting them down the underlying array list already does.
+     */
+    private void updatePositions(ListChangeListener.Change<? extends Appointment> change) {
+        int from = internalList.size();
+        int to = 0;
+        boolean isShifted = false;
+        while (change.next()) {
+            change.getRemoved().forEach(removed -> positions.remove(new AppointmentIdentity(removed)));
+            from = Math.min(from, change.getFrom());
+            to = Math.max(to, change.getTo());
+            isShifted |= change.getAddedSize() != change.getRemovedSize();
+        }
+        if (isShifted) {
+            to = internalList.size();
+        }
+        // all removals come first, as an added appointment may be the same as a later removed one
+        for (int i = from; i < to; i++) {
+            positions.put(new AppointmentIdentity(internalList.get(i)), i);
+        }
+    }
+
+    private void indexConfirmed(Appointment appointment) {
+        if (appointment == null || !isConfirmed(appointment)) {
+            return;
+        }
+        confirmedAppointmentsByClient
+                .computeIfAbsent(appointment.getClientName(), name -> new AppointmentIntervalTree())
+                .add(appointment);
+    }
+
+    private void unindexConfirmed(Appointment appointment) {
+        if (!isConfirmed(appointment)) {
+            return;
+        }
+        AppointmentIntervalTree clientAppointments = confirmedAppointmentsByClient.get(appointment.getClientName());
+        clientAppointments.remove(appointment);
+        if (clientAppointments.isEmpty()) {
+            confirmedAppointmentsByClient.remove(appointment.getClientName());
+        }
+    }
+
+    private void indexActive(Appointment appointment) {
+        if (appointment == null || appointment.getStatus().value == AppointmentStatusType.CANCELLED) {
+            return;
+        }
+        activeAppointmentTimesByClient
+                .computeIfAbsent(appointment.getClientName(), name -> new AppointmentTimeColumns())
+                .add(appointment);
+    }
+
+    private void unindexActive(Appointment appointment) {
+        AppointmentTimeColumns clientAppointmentTimes = activeAppointmentTimesByClient.get(appointment.getClientName());
+        if (clientAppointmentTimes == null || !clientAppointmentTimes.remove(appointment)) {
+            return;
+        }
+        if (clientAppointmentTimes.size() == 0) {
+            activeAppointmentTimesByClient.remove(appointment.getClientName());
+        }
+    }
+
+    /**
+     * The identity of an appointment, under which two appointments are equal if they are the same appointment.
+     * This allows appointments to be checked for uniqueness by hashing.
+     *
+     * @see Appointment#isSameAppointment(Appointment)
+     */
+    private static class AppointmentIdentity {
+        private final Appointment appointment;
+
+        AppointmentIdentity(Appointment appointment) {
+            this.appointment = appointment;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof AppointmentIdentity
+                    && appointment.isSameAppointment(((AppointmentIdentity) other).appointment);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(appointment.getClientName(), appointment.getDateTime(), appointment.getLength(),
+                    appointment.getLocation(), appointment.getType(), appointment.getMessage(),
+                    appointment.getStatus());
+        }
+
+        @Override
+        public String toString() {
+            return appointment.toString();
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.appointment.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Appointments
  * (Appointments are considered duplicates if they have the same identity).
@@ -8,4 +10,11 @@ public class DuplicateAppointmentException extends RuntimeException {
     public DuplicateAppointmentException() {
         super("Operation would result in duplicate appointments");
     }
+
+    /**
+     * Creates an exception that reports each of the given {@code duplicates}.
+     */
+    public DuplicateAppointmentException(List<String> duplicates) {
+        super("Operation would result in duplicate appointments: " + String.join("; ", duplicates));
+    }
 }
@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,15 +10,28 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a predicate matching persons whose name contains any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream()
+                .map(SearchKeys::normalizeName)
+                .toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        List<String> nameTokens = person.getSearchKeys().getNameTokens();
+        for (String keyword : normalizedKeywords) {
+            if (nameTokens.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
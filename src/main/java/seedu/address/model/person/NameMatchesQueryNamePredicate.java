@@ -5,18 +5,23 @@ import java.util.function.Predicate;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} matches the query name, ignoring case and extra whitespace.
  */
 public class NameMatchesQueryNamePredicate implements Predicate<Person> {
     private final Name queryName;
+    private final String normalizedQueryName;
 
+    /**
+     * Creates a predicate matching persons named {@code queryName}.
+     */
     public NameMatchesQueryNamePredicate(Name queryName) {
         this.queryName = queryName;
+        this.normalizedQueryName = SearchKeys.normalizeName(queryName.fullName);
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getName().equals(queryName);
+        return person.getSearchKeys().getName().equals(normalizedQueryName);
     }
 
     @Override
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (substrings of length 3) of lower-cased names to the names containing them.
+ * A name contains a keyword only if it contains every trigram of the keyword, so intersecting the postings of
+ * the keyword's trigrams gives a small set of candidate names that can then be checked with {@code String#contains}.
+ */
+class NameTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String gram : gramsOf(name.fullName.toLowerCase())) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String gram : gramsOf(name.fullName.toLowerCase())) {
+            Set<Name> names = postings.get(gram);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of candidates for {@code keyword}, which is the size of the smallest
+     * posting of its trigrams, without intersecting the postings.
+     * Returns an empty {@code OptionalInt} if {@code keyword} is too short to have any trigram.
+     */
+    OptionalInt estimateCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> grams = gramsOf(keyword.toLowerCase());
+        return grams.stream()
+                .mapToInt(gram -> postings.getOrDefault(gram, Collections.emptySet()).size())
+                .min();
+    }
+
+    /**
+     * Returns the names that contain every trigram of the lower-cased {@code keyword}.
+     * This includes every name containing {@code keyword}, but may include other names as well.
+     * Returns an empty {@code Optional} if {@code keyword} is too short to have any trigram.
+     */
+    Optional<Set<Name>> findCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> grams = gramsOf(keyword.toLowerCase());
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Name>> matchingPostings = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Name> names = postings.get(gram);
+            if (names == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            matchingPostings.add(names);
+        }
+        // intersect the smallest postings first to keep the intermediate sets small
+        matchingPostings.sort(Comparator.comparingInt(Set::size));
+        Set<Name> candidates = new HashSet<>(matchingPostings.get(0));
+        for (int i = 1; i < matchingPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(matchingPostings.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
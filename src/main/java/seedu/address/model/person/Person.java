@@ -2,13 +2,15 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.rank.Rank;
@@ -17,6 +19,10 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The appointments of a person in an {@code AddressBook} are a live view of the appointments in the
+ * address book's appointment list, which is their single source of truth. Since they are not owned by
+ * the person, they take no part in equality.
  */
 public class Person {
 
@@ -27,9 +33,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final Rank rank;
-    private final List<Appointment> appointments;
+    private final ObservableList<Appointment> appointments;
+
+    // computed on first use, possibly by several threads filtering at once; threads racing to compute them
+    // produce equal keys, and the field is volatile so that keys computed by one are safely seen by the others
+    private volatile SearchKeys searchKeys;
 
     /**
      * Creates a Person with no appointments.
@@ -44,14 +54,25 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Tag> tags, Rank rank, List<Appointment> appointments) {
+        this(name, phone, email, address, Collections.unmodifiableSet(new HashSet<>(tags)), rank,
+                appointments.isEmpty()
+                        ? FXCollections.emptyObservableList()
+                        : FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(appointments)));
+    }
+
+    /**
+     * Creates a Person that shares the given {@code tags} and {@code appointments}, which must be unmodifiable.
+     */
+    private Person(Name name, Phone phone, Email email, Address address,
+                   Set<Tag> tags, Rank rank, ObservableList<Appointment> appointments) {
         requireAllNonNull(name, phone, email, address, tags, rank, appointments);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = tags;
         this.rank = rank;
-        this.appointments = new ArrayList<>(appointments);
+        this.appointments = appointments;
     }
 
     public Name getName() {
@@ -79,52 +100,42 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
-    }
-
-    /**
-     * Returns an immutable list of this person's appointments.
-     */
-    public List<Appointment> getAppointments() {
-        return Collections.unmodifiableList(appointments);
+        return tags;
     }
 
     /**
-     * Returns a new Person with the given appointment added.
+     * Returns the normalised forms of the name, phone and email of this person, which searches are
+     * matched against. They are computed once, when first needed.
      */
-    public Person withAddedAppointment(Appointment appointment) {
-        List<Appointment> updatedAppointments = new ArrayList<>(appointments);
-        updatedAppointments.add(appointment);
-        return new Person(name, phone, email, address, tags, rank, updatedAppointments);
+    public SearchKeys getSearchKeys() {
+        if (searchKeys == null) {
+            searchKeys = new SearchKeys(this);
+        }
+        return searchKeys;
     }
 
     /**
-     * Returns a new Person with the given appointment removed.
+     * Returns true if this person has every tag in {@code tags}.
      */
-    public Person withRemovedAppointment(Appointment appointment) {
-        List<Appointment> updatedAppointments = new ArrayList<>(appointments);
-        updatedAppointments.remove(appointment);
-        return new Person(name, phone, email, address, tags, rank, updatedAppointments);
+    public boolean hasTags(Collection<Tag> tags) {
+        return this.tags.containsAll(tags);
     }
 
     /**
-     * Returns a new Person with new Appointment updated to an old appointment
+     * Returns an immutable list of this person's appointments.
      */
-    public Person withUpdatedAppointment(Appointment oldAppt, Appointment newAppt) {
-        List<Appointment> updatedAppointments = new ArrayList<>(appointments);
-        updatedAppointments = updatedAppointments.stream()
-                .map(x -> x.equals(oldAppt) ? newAppt : x)
-                .toList();
-        return new Person(name, phone, email, address, tags, rank, updatedAppointments);
+    public ObservableList<Appointment> getAppointments() {
+        return appointments;
     }
 
     /**
-     * Returns a new Person with the given appointments removed.
+     * Returns a new Person with the same details whose appointments are the live view {@code appointments}.
+     * The details are shared with this person rather than copied.
      */
-    public Person withoutAppointments(List<Appointment> appointmentsToRemove) {
-        List<Appointment> updatedAppointments = new ArrayList<>(appointments);
-        updatedAppointments.removeAll(appointmentsToRemove);
-        return new Person(name, phone, email, address, tags, rank, updatedAppointments);
+    public Person withAppointmentsView(ObservableList<Appointment> appointments) {
+        Person person = new Person(name, phone, email, address, tags, rank, appointments);
+        person.searchKeys = searchKeys;
+        return person;
     }
 
     /**
@@ -161,14 +172,13 @@ public class Person {
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && tags.equals(otherPerson.tags)
-                && rank.equals(otherPerson.rank)
-                && appointments.equals(otherPerson.appointments);
+                && rank.equals(otherPerson.rank);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, rank, appointments);
+        return Objects.hash(name, phone, email, address, tags, rank);
     }
 
     @Override
@@ -1,15 +1,20 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.rank.Rank;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.Conjunction;
 
 /**
  * Represents a query object to find Person in the address book.
@@ -27,6 +32,9 @@ public class PersonQuery {
     private final Optional<Set<Tag>> tags = Optional.of(new HashSet<>());
     private Optional<Rank> rank;
 
+    // compiled lazily and discarded whenever the query changes
+    private Predicate<Person> compiledFilter;
+
     /**
      * Represents empty query
      */
@@ -66,6 +74,7 @@ public class PersonQuery {
                     .collect(Collectors.toSet());
             this.name = Optional.ofNullable(nameSet);
         }
+        compiledFilter = null;
         return this;
     }
 
@@ -82,29 +91,62 @@ public class PersonQuery {
                     .collect(Collectors.toSet());
             this.name = Optional.ofNullable(nameSet);
         }
+        compiledFilter = null;
         return this;
     }
 
     public PersonQuery setPhone(Phone phone) {
         this.phone = Optional.of(phone);
+        compiledFilter = null;
         return this;
     }
 
     public PersonQuery setEmail(Email email) {
         this.email = Optional.of(email);
+        compiledFilter = null;
         return this;
     }
 
     public PersonQuery setRank(Rank rank) {
         this.rank = Optional.of(rank);
+        compiledFilter = null;
         return this;
     }
 
     public PersonQuery setTags(Set<Tag> tags) {
         this.tags.ifPresent(existingTags -> existingTags.addAll(tags));
+        compiledFilter = null;
         return this;
     }
 
+    /**
+     * Returns the lower-cased name keywords of this query, if any.
+     */
+    public Optional<Set<String>> getNameKeywords() {
+        return name.map(names -> names.stream()
+                .map(keyword -> keyword.toString().toLowerCase())
+                .collect(Collectors.toSet()));
+    }
+
+    public Optional<Phone> getPhone() {
+        return phone;
+    }
+
+    public Optional<Email> getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the tags that the persons must all have, as an unmodifiable set.
+     */
+    public Optional<Set<Tag>> getTags() {
+        return tags.map(Collections::unmodifiableSet);
+    }
+
+    public Optional<Rank> getRank() {
+        return rank;
+    }
+
     /**
      * A predicate function of type {@code Predicate<Person>} to filter persons in a collection (such as lists).
      * This function checks whether {@code Person} object follows the query given in {@code PersonQuery} object.
@@ -117,41 +159,61 @@ public class PersonQuery {
      * @return true if the person corresponds to the given query addressed above.
      */
     public boolean filter(Person person) {
-        boolean matchesName = this.name
-            .map(queryNames -> hasAnyMatchingKeyword(person.getName(), queryNames))
-            .orElse(true);
-
-        boolean matchesPhone = this.phone
-            .map(queryPhone -> person.getPhone().equals(queryPhone))
-            .orElse(true);
-
-        boolean matchesEmail = this.email
-            .map(queryEmail -> person.getEmail().equals(queryEmail))
-            .orElse(true);
-
-        boolean matchesRank = this.rank
-            .map(queryRank -> person.getRank().equals(queryRank))
-            .orElse(true);
+        return compile().test(person);
+    }
 
-        boolean matchesTags = this.tags
-            .map(queryTags -> person.getTags().containsAll(queryTags))
-            .orElse(true);
+    /**
+     * Returns this query compiled into a predicate with the same result as {@link #filter(Person)}.
+     * The predicate only checks the fields present in the query, with the cheapest checks first, and stops at
+     * the first one that fails. The query is normalised once here and compared with the cached
+     * {@link SearchKeys} of each person, so that testing a person allocates nothing.
+     */
+    public Predicate<Person> compile() {
+        if (compiledFilter != null) {
+            return compiledFilter;
+        }
+        List<Predicate<? super Person>> clauses = new ArrayList<>();
+        rank.ifPresent(queryRank -> clauses.add(person -> person.getRank().equals(queryRank)));
+        phone.map(queryPhone -> SearchKeys.normalizePhone(queryPhone.value)).ifPresent(queryPhone ->
+                clauses.add(person -> person.getSearchKeys().getPhone().equals(queryPhone)));
+        email.map(queryEmail -> SearchKeys.normalizeEmail(queryEmail.value)).ifPresent(queryEmail ->
+                clauses.add(person -> person.getSearchKeys().getEmail().equals(queryEmail)));
+        tags.filter(queryTags -> !queryTags.isEmpty()).ifPresent(queryTags -> {
+            Tag[] requiredTags = queryTags.toArray(new Tag[0]);
+            clauses.add(person -> hasAllTags(person, requiredTags));
+        });
+        name.ifPresent(queryNames -> {
+            String[] keywords = queryNames.stream()
+                    .map(keyword -> SearchKeys.normalizeName(keyword.fullName))
+                    .toArray(String[]::new);
+            clauses.add(person -> hasAnyMatchingKeyword(person, keywords));
+        });
+        compiledFilter = Conjunction.of(clauses);
+        return compiledFilter;
+    }
 
-        return matchesName && matchesPhone && matchesEmail
-            && matchesRank && matchesTags;
+    private static boolean hasAllTags(Person person, Tag[] requiredTags) {
+        Set<Tag> personTags = person.getTags();
+        for (Tag tag : requiredTags) {
+            if (!personTags.contains(tag)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Checks if person's name contains any of the query keywords.
+     * Checks if person's name contains any of the normalised query keywords.
      * Comparison is case-insensitive.
      */
-    private boolean hasAnyMatchingKeyword(Name personName, Set<Name> queryKeywords) {
-        String personNameLower = personName.toString().toLowerCase();
-
-        return queryKeywords.stream()
-            .map(Name::toString)
-            .map(String::toLowerCase)
-            .anyMatch(keyword -> personNameLower.contains(keyword));
+    private static boolean hasAnyMatchingKeyword(Person person, String[] keywords) {
+        String personName = person.getSearchKeys().getName();
+        for (String keyword : keywords) {
+            if (personName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
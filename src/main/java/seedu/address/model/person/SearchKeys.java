@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The normalised forms of the searchable fields of a {@code Person}, which searches are matched against.
+ * Names are lower-cased with runs of whitespace collapsed into single spaces, phone numbers keep only their
+ * digits and emails are lower-cased. Search terms must be normalised the same way before they are compared.
+ */
+public class SearchKeys {
+
+    private final String name;
+    private final List<String> nameTokens;
+    private final String phone;
+    private final String email;
+
+    /**
+     * Computes the search keys of {@code person}.
+     */
+    SearchKeys(Person person) {
+        requireNonNull(person);
+        this.name = normalizeName(person.getName().fullName);
+        this.nameTokens = List.of(name.split(" "));
+        this.phone = normalizePhone(person.getPhone().value);
+        this.email = normalizeEmail(person.getEmail().value);
+    }
+
+    /**
+     * Returns {@code name} lower-cased, with leading and trailing whitespace removed and every run of
+     * whitespace within it replaced by a single space.
+     */
+    public static String normalizeName(String name) {
+        requireNonNull(name);
+        return name.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Returns the digits of {@code phone}.
+     */
+    public static String normalizePhone(String phone) {
+        requireNonNull(phone);
+        return phone.replaceAll("\\D", "");
+    }
+
+    /**
+     * Returns {@code email} lower-cased.
+     */
+    public static String normalizeEmail(String email) {
+        requireNonNull(email);
+        return email.toLowerCase();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the words of the normalised name, as an immutable list.
+     */
+    public List<String> getNameTokens() {
+        return nameTokens;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
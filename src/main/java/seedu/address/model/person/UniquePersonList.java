@@ -3,13 +3,33 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.rank.RankType;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.BitmapIndex;
+import seedu.address.model.util.UniquenessUtil;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,20 +40,45 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Since the identity of a person is its name, the list also keeps a name-keyed index of the position of
+ * every person, so that identity lookups do not need to scan the list. The index is updated from the change
+ * events of the backing list, hence it stays in sync with every mutation of {@code internalList}. A trigram
+ * index over the lower-cased names is kept the same way to narrow down substring searches on names, hash
+ * indexes find the persons with a given phone or email, and bitmap indexes of the positions of the persons
+ * of each rank and with each tag answer rank and tag filters.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    // a change to the appointments of a person is reported as an update of that person
+    private final ObservableList<Person> internalList =
+            FXCollections.observableArrayList(person -> new Observable[] {person.getAppointments()});
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> nameIndex = new HashMap<>();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    // keyed by the normalised phone and email, which is what searches match against
+    private final Map<String, Set<Name>> namesByPhone = new HashMap<>();
+    private final Map<String, Set<Name>> namesByEmail = new HashMap<>();
+    private final BitmapIndex<RankType, Person> rankIndex =
+            BitmapIndex.of(internalList, person -> person.getRank().rankName);
+    private final BitmapIndex<Tag, Person> tagIndex = BitmapIndex.ofKeys(internalList, Person::getTags);
+
+    /**
+     * Creates an empty list whose name indexes follow the backing list.
+     */
+    public UniquePersonList() {
+        internalList.addListener(this::updateNameIndex);
+        internalList.addListener(this::updateSearchIndexes);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -56,7 +101,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -74,9 +119,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
@@ -90,8 +137,9 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> duplicates = UniquenessUtil.findDuplicates(persons, Person::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
@@ -135,25 +183,163 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person with the given {@code name}, or null if there is no such person.
+     */
+    public Person getPerson(Name name) {
+        Integer index = nameIndex.get(name);
+        return index == null ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the persons whose name is the same as {@code name} once both are normalized by
+     * {@link SearchKeys#normalizeName(String)}, in the order of the list.
+     * The candidates are the names containing the longest word of {@code name}, found through the trigram index,
+     * unless that word is too short to narrow down the persons.
+     */
+    public List<Person> getPersonsWithNormalizedName(Name name) {
+        requireNonNull(name);
+        String normalizedName = SearchKeys.normalizeName(name.fullName);
+        String longestWord = Arrays.stream(normalizedName.split(" "))
+                .max(Comparator.comparingInt(String::length))
+                .orElse(normalizedName);
+        Stream<Person> candidates = nameTrigramIndex.findCandidates(longestWord)
+                .map(names -> names.stream().map(this::getPerson).filter(Objects::nonNull))
+                .orElseGet(internalList::stream);
+        return candidates
+                .filter(person -> person.getSearchKeys().getName().equals(normalizedName))
+                .sorted(Comparator.comparingInt(person -> nameIndex.get(person.getName())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the names of the persons whose name may contain any of {@code keywords}, ignoring case.
+     * Every person whose name contains a keyword is among the candidates, but not every candidate does.
+     * Returns an empty {@code Optional} if some keyword is too short to narrow down the persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public Optional<Set<Name>> getNameCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            Optional<Set<Name>> keywordCandidates = nameTrigramIndex.findCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
             }
+            candidates.addAll(keywordCandidates.get());
         }
-        return true;
+        return Optional.of(candidates);
     }
 
-    public Person getPerson(Name name) {
-        for (Person person : internalList) {
-            if (person.getName().equals(name)) {
-                return person;
+    /**
+     * Returns an upper bound on the number of names returned by {@link #getNameCandidates(Collection)} for
+     * {@code keywords}, without computing them.
+     * Returns an empty {@code Optional} if some keyword is too short to narrow down the persons.
+     */
+    public Optional<Integer> estimateNameCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            OptionalInt keywordEstimate = nameTrigramIndex.estimateCandidates(keyword);
+            if (keywordEstimate.isEmpty()) {
+                return Optional.empty();
+            }
+            estimate += keywordEstimate.getAsInt();
+        }
+        return Optional.of(Math.min(estimate, internalList.size()));
+    }
+
+    /**
+     * Returns the names of the persons with the given {@code phone}.
+     */
+    public Set<Name> getNamesWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return Collections.unmodifiableSet(
+                namesByPhone.getOrDefault(SearchKeys.normalizePhone(phone.value), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the names of the persons with the given {@code email}.
+     */
+    public Set<Name> getNamesWithEmail(Email email) {
+        requireNonNull(email);
+        return Collections.unmodifiableSet(
+                namesByEmail.getOrDefault(SearchKeys.normalizeEmail(email.value), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the positions of the persons of the given {@code rank}.
+     */
+    public BitSet getPositionsWithRank(RankType rank) {
+        requireNonNull(rank);
+        return rankIndex.get(rank);
+    }
+
+    /**
+     * Returns the positions of the persons that have every tag in {@code tags}.
+     */
+    public BitSet getPositionsWithTags(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        return tagIndex.getAll(tags);
+    }
+
+    /**
+     * Returns the position of the person that is equal to {@code person}, or -1 if there is no such person.
+     * As names are unique, the only candidate is the person indexed under the same name.
+     */
+    private int indexOf(Person person) {
+        Integer index = nameIndex.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Brings {@code nameIndex} up to date with the given change of {@code internalList}.
+     * Every person from the first changed position onwards is re-indexed when the size of the list changes,
+     * otherwise only the replaced range is.
+     */
+    private void updateNameIndex(ListChangeListener.Change<? extends Person> change) {
+        int from = internalList.size();
+        int to = 0;
+        boolean isShifted = false;
+        while (change.next()) {
+            change.getRemoved().forEach(removed -> nameIndex.remove(removed.getName()));
+            from = Math.min(from, change.getFrom());
+            to = Math.max(to, change.getTo());
+            isShifted |= change.getAddedSize() != change.getRemovedSize();
+        }
+        if (isShifted) {
+            to = internalList.size();
+        }
+        for (int i = from; i < to; i++) {
+            nameIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    private void updateSearchIndexes(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                nameTrigramIndex.remove(removed.getName());
+                unindex(namesByPhone, removed.getSearchKeys().getPhone(), removed.getName());
+                unindex(namesByEmail, removed.getSearchKeys().getEmail(), removed.getName());
+            }
+            for (Person added : change.getAddedSubList()) {
+                nameTrigramIndex.add(added.getName());
+                namesByPhone.computeIfAbsent(added.getSearchKeys().getPhone(), phone -> new HashSet<>())
+                        .add(added.getName());
+                namesByEmail.computeIfAbsent(added.getSearchKeys().getEmail(), email -> new HashSet<>())
+                        .add(added.getName());
             }
         }
-        return null;
+    }
+
+    private static <K> void unindex(Map<K, Set<Name>> index, K key, Name name) {
+        Set<Name> names = index.get(key);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            index.remove(key);
+        }
     }
 }
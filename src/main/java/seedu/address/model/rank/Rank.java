@@ -3,6 +3,8 @@ package seedu.address.model.rank;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Rank in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidRankName(String)}
@@ -12,6 +14,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Rank {
     public static final String MESSAGE_CONSTRAINTS = "Rank names should be one of the four: "
             + "stable/vulnerable/urgent/crisis";
+    private static final Interner<Rank> INTERNER = new Interner<>();
     public final RankType rankName;
 
     /**
@@ -25,6 +28,14 @@ public class Rank {
         this.rankName = stringToRank(rankName.trim().toLowerCase());
     }
 
+    /**
+     * Returns the {@code Rank} named {@code rankName}, which must be a valid rank name.
+     * Equal values share a single instance.
+     */
+    public static Rank of(String rankName) {
+        return INTERNER.intern(new Rank(rankName));
+    }
+
     /**
      * Returns a RankType from a string, ignoring case.
      */
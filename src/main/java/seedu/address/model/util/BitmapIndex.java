@@ -0,0 +1,170 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A bitmap index over a low-cardinality key of the elements of an {@code ObservableList}.
+ * For every key, it keeps a {@code BitSet} of the positions of the elements with that key, so that a filter
+ * on several keys becomes a bitwise AND of their bitmaps. An element may have several keys, such as tags,
+ * in which case it is indexed under each of them.
+ * The bitmaps are updated from the change events of the list, hence they stay in sync with every modification.
+ *
+ * @param <K> the type of the key
+ * @param <T> the type of the elements of the list
+ */
+public class BitmapIndex<K, T> {
+
+    private final ObservableList<T> list;
+    private final Function<? super T, ? extends Collection<? extends K>> keysOf;
+    private final Map<K, BitSet> bitmaps = new HashMap<>();
+    private int indexedSize;
+
+    private BitmapIndex(ObservableList<T> list, Function<? super T, ? extends Collection<? extends K>> keysOf) {
+        requireAllNonNull(list, keysOf);
+        this.list = list;
+        this.keysOf = keysOf;
+        index(0, list.size());
+        indexedSize = list.size();
+        list.addListener(this::update);
+    }
+
+    /**
+     * Returns a bitmap index over the elements of {@code list} where every element is indexed under its key
+     * given by {@code keyOf}.
+     */
+    public static <K, T> BitmapIndex<K, T> of(ObservableList<T> list, Function<? super T, ? extends K> keyOf) {
+        requireAllNonNull(list, keyOf);
+        return new BitmapIndex<>(list, element -> Collections.singleton(keyOf.apply(element)));
+    }
+
+    /**
+     * Returns a bitmap index over the elements of {@code list} where every element is indexed under each of its
+     * keys given by {@code keysOf}.
+     */
+    public static <K, T> BitmapIndex<K, T> ofKeys(ObservableList<T> list,
+                                                   Function<? super T, ? extends Collection<? extends K>> keysOf) {
+        return new BitmapIndex<>(list, keysOf);
+    }
+
+    /**
+     * Returns the positions of the elements whose key is {@code key}.
+     * The returned {@code BitSet} is a copy, so it can be combined with other bitmaps in place.
+     */
+    public BitSet get(K key) {
+        BitSet positions = bitmaps.get(key);
+        return positions == null ? new BitSet() : (BitSet) positions.clone();
+    }
+
+    /**
+     * Returns the positions of the elements that have every key in {@code keys}.
+     * The bitmaps are intersected from the smallest to the largest, stopping as soon as the result is empty.
+     */
+    public BitSet getAll(Collection<? extends K> keys) {
+        requireAllNonNull(keys);
+        List<BitSet> keyBitmaps = new ArrayList<>();
+        for (K key : keys) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            keyBitmaps.add(bitmap);
+        }
+        if (keyBitmaps.isEmpty()) {
+            BitSet positions = new BitSet();
+            positions.set(0, list.size());
+            return positions;
+        }
+        keyBitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet positions = (BitSet) keyBitmaps.get(0).clone();
+        for (int i = 1; i < keyBitmaps.size() && !positions.isEmpty(); i++) {
+            positions.and(keyBitmaps.get(i));
+        }
+        return positions;
+    }
+
+    /**
+     * Brings the bitmaps up to date with the given change of the list.
+     * Only the added, replaced and permuted elements have their keys computed. When the size of the list changes,
+     * the positions after the changed range are moved in every bitmap a word of 64 positions at a time, which
+     * takes time linear in the number of positions in the list divided by 64 rather than in the number of
+     * elements moved.
+     */
+    private void update(ListChangeListener.Change<? extends T> change) {
+        int size = indexedSize;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                index(from, change.getTo());
+                continue;
+            }
+            int removedSize = change.getRemovedSize();
+            int addedSize = change.getAddedSize();
+            if (addedSize != removedSize) {
+                for (BitSet bitmap : bitmaps.values()) {
+                    moveTail(bitmap, from, from + removedSize, from + addedSize, size);
+                }
+                size += addedSize - removedSize;
+            }
+            index(from, from + addedSize);
+        }
+        bitmaps.values().removeIf(BitSet::isEmpty);
+        indexedSize = size;
+    }
+
+    /**
+     * Indexes the elements from position {@code from} to {@code to}, replacing what was indexed there.
+     */
+    private void index(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        bitmaps.values().forEach(bitmap -> bitmap.clear(from, to));
+        for (int i = from; i < to; i++) {
+            for (K key : keysOf.apply(list.get(i))) {
+                bitmaps.computeIfAbsent(key, k -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    /**
+     * Moves the positions of {@code bitmap} from {@code oldStart} up to {@code size} so that they start at
+     * {@code newStart}, clearing every position from {@code from}, which is at most both starts, onwards.
+     */
+    private static void moveTail(BitSet bitmap, int from, int oldStart, int newStart, int size) {
+        BitSet tail = bitmap.get(oldStart, size);
+        bitmap.clear(from, size);
+        if (!tail.isEmpty()) {
+            bitmap.or(shiftUp(tail, newStart));
+        }
+    }
+
+    /**
+     * Returns a copy of {@code bits} with every position increased by {@code distance}.
+     */
+    private static BitSet shiftUp(BitSet bits, int distance) {
+        long[] words = bits.toLongArray();
+        int wordDistance = distance / Long.SIZE;
+        int bitDistance = distance % Long.SIZE;
+        long[] shifted = new long[words.length + wordDistance + 1];
+        for (int i = 0; i < words.length; i++) {
+            shifted[i + wordDistance] |= words[i] << bitDistance;
+            if (bitDistance != 0) {
+                shifted[i + wordDistance + 1] |= words[i] >>> (Long.SIZE - bitDistance);
+            }
+        }
+        return BitSet.valueOf(shifted);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that holds when all of its clauses hold.
+ * The clauses are kept in a flat array and tested in order, stopping at the first one that fails,
+ * so that testing an element neither evaluates the remaining clauses nor allocates anything.
+ *
+ * @param <T> the type of the elements tested
+ */
+public class Conjunction<T> implements Predicate<T> {
+
+    private final Predicate<? super T>[] clauses;
+
+    @SuppressWarnings("unchecked")
+    private Conjunction(List<Predicate<? super T>> clauses) {
+        this.clauses = clauses.toArray(new Predicate[0]);
+    }
+
+    /**
+     * Returns a predicate that holds when all of {@code clauses} hold, testing them in the given order.
+     * The cheapest or most selective clauses should come first.
+     */
+    public static <T> Predicate<T> of(List<Predicate<? super T>> clauses) {
+        requireAllNonNull(clauses);
+        if (clauses.isEmpty()) {
+            return element -> true;
+        }
+        return new Conjunction<>(clauses);
+    }
+
+    @Override
+    public boolean test(T element) {
+        for (Predicate<? super T> clause : clauses) {
+            if (!clause.test(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Contains utility methods for checking that the elements of a list are unique.
+ */
+public class UniquenessUtil {
+
+    /**
+     * Returns a description of every element of {@code elements} with the same key as an earlier element, along with
+     * the positions of both elements, counting from 1.
+     * Keys are given by {@code keyOf} and are compared by hashing, so the whole list is checked in linear time.
+     */
+    public static <T, K> List<String> findDuplicates(List<T> elements, Function<? super T, K> keyOf) {
+        requireAllNonNull(elements, keyOf);
+        Map<K, Integer> firstPositions = new HashMap<>(elements.size() * 4 / 3 + 1);
+        List<String> duplicates = new ArrayList<>();
+        int position = 1;
+        for (T element : elements) {
+            K key = keyOf.apply(element);
+            Integer firstPosition = firstPositions.putIfAbsent(key, position);
+            if (firstPosition != null) {
+                duplicates.add(String.format("%s at positions %d and %d", key, firstPosition, position));
+            }
+            position++;
+        }
+        return duplicates;
+    }
+}
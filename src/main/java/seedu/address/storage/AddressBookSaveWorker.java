@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes snapshots of the address book on a background thread, one at a time.
+ * Snapshots submitted while a write is in progress replace one another, so that a burst of changes results in
+ * a single write of the latest snapshot once the current write finishes.
+ */
+class AddressBookSaveWorker {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveWorker.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "address-book-saver");
+        // a pending write must not keep the application running; it is flushed when the application stops
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates a worker that writes to {@code addressBookStorage}.
+     */
+    AddressBookSaveWorker(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler to which failed writes are reported. It is called on the background thread.
+     * Writes that fail with an unchecked exception are reported with it wrapped in an {@code IOException}.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot that has not started being written.
+     * {@code snapshot} must not change after it is submitted.
+     */
+    void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pending.getAndSet(snapshot) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits until every snapshot submitted so far has been written.
+     */
+    void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until every snapshot submitted so far has been written, and stops the background thread.
+     * No snapshots can be submitted afterwards. Closing a closed worker does nothing.
+     */
+    void close() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            logger.fine("Writing address book in the background to: " + addressBookStorage.getAddressBookFilePath());
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        } catch (RuntimeException e) {
+            // would otherwise only end the task, leaving the address book marked as saved
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(new IOException(e));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the data of an address book, which can be written from another thread while the
+ * address book itself continues to change.
+ * Persons and appointments are immutable, so taking the copy only copies the references held by the two lists,
+ * which keeps it cheap for the thread that changes the address book. The appointments of each person are a live
+ * view in the address book, so the persons are given views of the copied appointments instead, and those are
+ * only built when the copy is first read, by the thread that writes it.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final Person[] personArray;
+    private final Appointment[] appointmentArray;
+    private final String nextAppointmentId;
+
+    private ObservableList<Person> persons;
+    private ObservableList<Appointment> appointments;
+    private Set<AppointmentId> idSet;
+
+    /**
+     * Copies the current data of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        this.personArray = source.getPersonList().toArray(new Person[0]);
+        this.appointmentArray = source.getAppointmentList().toArray(new Appointment[0]);
+        this.nextAppointmentId = source.getNextAppointmentId();
+    }
+
+    private static <T> ObservableList<T> unmodifiableListOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (persons == null) {
+            Map<Name, List<Appointment>> appointmentsByClient = new HashMap<>();
+            for (Appointment appointment : appointmentArray) {
+                appointmentsByClient.computeIfAbsent(appointment.getClientName(), name -> new ArrayList<>())
+                        .add(appointment);
+            }
+            List<Person> personsCopy = new ArrayList<>(personArray.length);
+            for (Person person : personArray) {
+                List<Appointment> clientAppointments = appointmentsByClient.getOrDefault(person.getName(), List.of());
+                personsCopy.add(person.withAppointmentsView(unmodifiableListOf(clientAppointments)));
+            }
+            persons = unmodifiableListOf(personsCopy);
+        }
+        return persons;
+    }
+
+    @Override
+    public synchronized ObservableList<Appointment> getAppointmentList() {
+        if (appointments == null) {
+            appointments = unmodifiableListOf(Arrays.asList(appointmentArray));
+        }
+        return appointments;
+    }
+
+    @Override
+    public synchronized Set<AppointmentId> getIdSet() {
+        if (idSet == null) {
+            Set<AppointmentId> ids = new HashSet<>();
+            for (Appointment appointment : appointmentArray) {
+                ids.add(appointment.getId());
+            }
+            idSet = Collections.unmodifiableSet(ids);
+        }
+        return idSet;
+    }
+
+    @Override
+    public String getNextAppointmentId() {
+        return nextAppointmentId;
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot and a journal of the changes made
+ * since the snapshot was written.
+ * Each save appends only the persons and appointments that were added, edited or deleted since the last save to
+ * the journal, rather than rewriting the whole file. Each save is written as a single line holding the array of
+ * its {@link JsonJournalRecord}s, so that a save cut short is ignored as a whole. The snapshot is in the same format
+ * as that of {@link JsonAddressBookStorage}, and is rewritten with the journal cleared once the journal grows past
+ * a size threshold. Reading replays the journal over the snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final boolean isPrettyPrinted;
+
+    // the data as last read from or written to filePath, which the next save is compared against
+    private ReadOnlyAddressBook saved;
+    private Map<Name, Integer> savedPersonIndices;
+    private Map<AppointmentId, Integer> savedAppointmentIndices;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, true);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that compacts its journal once it is larger than
+     * {@code compactionThreshold} bytes, and indents the json of its snapshots if {@code isPrettyPrinted}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold, boolean isPrettyPrinted) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<AddressBook> snapshot = JsonUtil.parseJsonFile(filePath, JsonSerializableAddressBook::readFrom);
+        Path journalPath = getJournalPath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = replayJournal(snapshot.orElseGet(AddressBook::new), journalPath);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (filePath.equals(this.filePath)) {
+            setSaved(addressBook);
+        }
+        return Optional.of(addressBook);
+    }
+
+    private AddressBook replayJournal(AddressBook snapshot, Path journalPath)
+            throws IllegalValueException, DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return snapshot;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.info("Replaying " + lines.size() + " journalled saves from " + journalPath);
+
+        JournalReplay replay = new JournalReplay(snapshot);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            JsonJournalRecord[] records;
+            try {
+                records = JsonUtil.fromJsonString(lines.get(i), JsonJournalRecord[].class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // the application stopped while the last save was being written, so none of it was saved
+                    logger.warning("Ignoring incomplete last save of journal " + journalPath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+            for (JsonJournalRecord record : records) {
+                record.applyTo(replay);
+            }
+            replay.endSave();
+        }
+        return replay.toAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes are journalled when saving to the file of this storage, whose data is known.
+     * A snapshot is written when saving to any other file.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+        // a snapshot taken for a background save is already a copy that later changes do not affect
+        ReadOnlyAddressBook current =
+                addressBook instanceof AddressBookSnapshot ? addressBook : new AddressBookSnapshot(addressBook);
+        if (saved == null) {
+            writeSnapshot(current, filePath);
+            setSaved(current);
+            return;
+        }
+
+        List<JsonJournalRecord> records = findChanges(current);
+        if (records.isEmpty()) {
+            return;
+        }
+        Path journalPath = getJournalPath(filePath);
+        try {
+            appendToJournal(records, journalPath);
+        } catch (IOException e) {
+            // a partly written save can only be ignored at the end of the journal, so the next save starts afresh
+            saved = null;
+            throw e;
+        }
+        setSaved(current);
+
+        if (Files.size(journalPath) > compactionThreshold) {
+            logger.info("Compacting journal " + journalPath);
+            writeSnapshot(current, filePath);
+        }
+    }
+
+    /**
+     * Returns the records that change the saved data into {@code current}.
+     * Deletions come first, followed by the persons and appointments that changed in order of their index.
+     * Those that are unchanged but out of their saved order relative to the others are put again.
+     * Those changed in their saved order are put in place, while every other saved person and appointment that is
+     * put again is deleted first, so that the rest keep their saved order and each put inserts at the index it
+     * ends up at.
+     * <p>
+     * Finding the changes compares the whole of {@code current} with the saved data, which takes time linear in
+     * the size of the address book. The persons and appointments are immutable and share their fields with the
+     * saved data unless changed, so comparing those that were not changed only compares references. It is done on
+     * the thread that saves in the background, where saves requested while one is in progress are combined.
+     */
+    private List<JsonJournalRecord> findChanges(ReadOnlyAddressBook current) {
+        List<JsonJournalRecord> records = new ArrayList<>();
+        List<JsonJournalRecord> puts = new ArrayList<>();
+
+        Set<Name> currentNames = new HashSet<>();
+        current.getPersonList().forEach(person -> currentNames.add(person.getName()));
+        saved.getPersonList().stream()
+                .filter(person -> !currentNames.contains(person.getName()))
+                .forEach(person -> records.add(JsonJournalRecord.deletePerson(person.getName())));
+        Set<AppointmentId> currentIds = new HashSet<>();
+        current.getAppointmentList().forEach(appointment -> currentIds.add(appointment.getId()));
+        saved.getAppointmentList().stream()
+                .filter(appointment -> !currentIds.contains(appointment.getId()))
+                .forEach(appointment -> records.add(JsonJournalRecord.deleteAppointment(appointment.getId())));
+
+        List<Person> savedPersons = saved.getPersonList();
+        int lastUnchanged = -1;
+        for (int i = 0; i < current.getPersonList().size(); i++) {
+            Person person = current.getPersonList().get(i);
+            Integer savedIndex = savedPersonIndices.get(person.getName());
+            if (savedIndex != null && savedIndex > lastUnchanged) {
+                lastUnchanged = savedIndex;
+                if (!savedPersons.get(savedIndex).equals(person)) {
+                    puts.add(JsonJournalRecord.putPerson(i, person));
+                }
+                continue;
+            }
+            if (savedIndex != null) {
+                records.add(JsonJournalRecord.deletePerson(person.getName()));
+            }
+            puts.add(JsonJournalRecord.putPerson(i, person));
+        }
+
+        List<Appointment> savedAppointments = saved.getAppointmentList();
+        lastUnchanged = -1;
+        for (int i = 0; i < current.getAppointmentList().size(); i++) {
+            Appointment appointment = current.getAppointmentList().get(i);
+            Integer savedIndex = savedAppointmentIndices.get(appointment.getId());
+            if (savedIndex != null && savedIndex > lastUnchanged) {
+                lastUnchanged = savedIndex;
+                if (!savedAppointments.get(savedIndex).equals(appointment)) {
+                    puts.add(JsonJournalRecord.putAppointment(i, appointment));
+                }
+                continue;
+            }
+            if (savedIndex != null) {
+                records.add(JsonJournalRecord.deleteAppointment(appointment.getId()));
+            }
+            puts.add(JsonJournalRecord.putAppointment(i, appointment));
+        }
+        records.addAll(puts);
+
+        if (!current.getNextAppointmentId().equals(saved.getNextAppointmentId())) {
+            records.add(JsonJournalRecord.setNextAppointmentId(current.getNextAppointmentId()));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonJournalRecord> records, Path journalPath) throws IOException {
+        String line = JsonUtil.toJsonLine(records) + System.lineSeparator();
+        FileUtil.createParentDirsOfFile(journalPath);
+        Files.writeString(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, clearing its journal.
+     * The snapshot replaces the old one only once it is completely written, so that the old snapshot and its
+     * journal are left intact should the write fail. The journal is only cleared once the new snapshot is in
+     * place. Should it not be cleared, replaying it over the new snapshot leaves the data as it is.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonUtil.writeJsonFile(filePath, isPrettyPrinted,
+                generator -> JsonSerializableAddressBook.writeTo(addressBook, generator));
+        Files.deleteIfExists(getJournalPath(filePath));
+    }
+
+    private void setSaved(ReadOnlyAddressBook addressBook) {
+        saved = addressBook instanceof AddressBookSnapshot ? addressBook : new AddressBookSnapshot(addressBook);
+        savedPersonIndices = new HashMap<>();
+        for (int i = 0; i < saved.getPersonList().size(); i++) {
+            savedPersonIndices.put(saved.getPersonList().get(i).getName(), i);
+        }
+        savedAppointmentIndices = new HashMap<>();
+        for (int i = 0; i < saved.getAppointmentList().size(); i++) {
+            savedAppointmentIndices.put(saved.getAppointmentList().get(i).getId(), i);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The data of an address book as the saves in its journal are replayed over its snapshot.
+ * Persons and appointments are kept in order by their name and id, so that each record is applied in constant
+ * time. One put under a name or id already in the list replaces it in place, while one under a new name or id
+ * inserts it at its index once the save ends. Inserting before the end of the list then takes time linear in
+ * the size of the list, but only once for the whole save.
+ */
+class JournalReplay {
+
+    private final KeyedList<Name, Person> persons;
+    private final KeyedList<AppointmentId, Appointment> appointments;
+    private String nextAppointmentId;
+
+    /**
+     * Starts replaying over the data of {@code snapshot}.
+     */
+    JournalReplay(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        persons = new KeyedList<>(snapshot.getPersonList(), Person::getName);
+        appointments = new KeyedList<>(snapshot.getAppointmentList(), Appointment::getId);
+        nextAppointmentId = snapshot.getNextAppointmentId();
+    }
+
+    void putPerson(int index, Person person) {
+        persons.put(index, person.getName(), person);
+    }
+
+    void deletePerson(Name name) {
+        persons.delete(name);
+    }
+
+    void putAppointment(int index, Appointment appointment) {
+        appointments.put(index, appointment.getId(), appointment);
+    }
+
+    void deleteAppointment(AppointmentId id) {
+        appointments.delete(id);
+    }
+
+    void setNextAppointmentId(String nextAppointmentId) {
+        this.nextAppointmentId = nextAppointmentId;
+    }
+
+    /**
+     * Inserts the persons and appointments put under new names and ids by the save just replayed.
+     * The indexes of the puts of a save are those in the data after it, so they are inserted in order of index,
+     * after all of its deletions.
+     */
+    void endSave() {
+        persons.insertPending();
+        appointments.insertPending();
+    }
+
+    /**
+     * Returns the replayed data.
+     */
+    AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setNextAppointmentId(nextAppointmentId);
+        addressBook.setPersons(new ArrayList<>(persons.elements.values()));
+        addressBook.setAppointments(new ArrayList<>(appointments.elements.values()));
+        return addressBook;
+    }
+
+    /**
+     * A list of elements with unique keys, with the insertions of a save pending until it ends.
+     */
+    private static class KeyedList<K, V> {
+        private LinkedHashMap<K, V> elements = new LinkedHashMap<>();
+        private final Map<K, Insertion<K, V>> pending = new LinkedHashMap<>();
+
+        KeyedList(List<V> initial, Function<V, K> keyOf) {
+            initial.forEach(element -> elements.put(keyOf.apply(element), element));
+        }
+
+        void put(int index, K key, V value) {
+            if (elements.containsKey(key)) {
+                elements.put(key, value);
+                return;
+            }
+            pending.put(key, new Insertion<>(index, key, value));
+        }
+
+        void delete(K key) {
+            elements.remove(key);
+            pending.remove(key);
+        }
+
+        void insertPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Insertion<K, V>> insertions = new ArrayList<>(pending.values());
+            insertions.sort(Comparator.comparingInt(insertion -> insertion.index));
+            pending.clear();
+            if (insertions.get(0).index >= elements.size()) {
+                insertions.forEach(insertion -> elements.put(insertion.key, insertion.value));
+                return;
+            }
+
+            LinkedHashMap<K, V> merged = new LinkedHashMap<>();
+            Iterator<Map.Entry<K, V>> existing = elements.entrySet().iterator();
+            Iterator<Insertion<K, V>> toInsert = insertions.iterator();
+            Insertion<K, V> next = toInsert.next();
+            while (next != null || existing.hasNext()) {
+                if (next != null && (next.index <= merged.size() || !existing.hasNext())) {
+                    merged.put(next.key, next.value);
+                    next = toInsert.hasNext() ? toInsert.next() : null;
+                } else {
+                    Map.Entry<K, V> entry = existing.next();
+                    merged.put(entry.getKey(), entry.getValue());
+                }
+            }
+            elements = merged;
+        }
+    }
+
+    private static class Insertion<K, V> {
+        private final int index;
+        private final K key;
+        private final V value;
+
+        Insertion(int index, K key, V value) {
+            this.index = index;
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -94,11 +94,11 @@ class JsonAdaptedAppointment {
         }
         final AppointmentLength modelLength = new AppointmentLength(len);
 
-        final AppointmentLocation modelLocation = new AppointmentLocation(
+        final AppointmentLocation modelLocation = AppointmentLocation.of(
                 Objects.requireNonNullElse(location, "")
         );
 
-        final AppointmentType modelType = new AppointmentType(
+        final AppointmentType modelType = AppointmentType.of(
                 Objects.requireNonNullElse(type, ""));
 
         final AppointmentMessage modelMessage = new AppointmentMessage(
@@ -108,7 +108,7 @@ class JsonAdaptedAppointment {
         if (!AppointmentStatus.isValidStatus(stat)) {
             throw new IllegalValueException(AppointmentStatus.MESSAGE_CONSTRAINTS);
         }
-        final AppointmentStatus modelStatus = new AppointmentStatus(stat);
+        final AppointmentStatus modelStatus = AppointmentStatus.of(stat);
 
         return new Appointment(modelId, ownerName, modelDateTime,
                 modelLength, modelLocation, modelType, modelMessage, modelStatus);
@@ -117,7 +117,7 @@ class JsonAdaptedPerson {
         if (!Rank.isValidRankName(rank)) {
             throw new IllegalValueException(Rank.MESSAGE_CONSTRAINTS);
         }
-        final Rank modelRank = new Rank(rank);
+        final Rank modelRank = Rank.of(rank);
 
         // Deserialize appointments, injecting the person's name as the client name.
         final List<Appointment> modelAppointments = new ArrayList<>();
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentIdAllocator;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to an address book, written to the journal with the others of its save.
+ * A person or appointment is put in place of the one with the same name or id, or otherwise inserted at its index
+ * in the list once the rest of its save is applied, and is deleted by its name or id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    static final String PUT_PERSON = "putPerson";
+    static final String DELETE_PERSON = "deletePerson";
+    static final String PUT_APPOINTMENT = "putAppointment";
+    static final String DELETE_APPOINTMENT = "deleteAppointment";
+    static final String SET_NEXT_APPOINTMENT_ID = "setNextAppointmentId";
+
+    private final String op;
+    private final Integer index;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("key") String key, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.op = op;
+        this.index = index;
+        this.key = key;
+        this.person = person;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns a record putting {@code person}, without its appointments, at {@code index} of the person list.
+     */
+    static JsonJournalRecord putPerson(int index, Person person) {
+        requireNonNull(person);
+        Person details = person.withAppointmentsView(FXCollections.emptyObservableList());
+        return new JsonJournalRecord(PUT_PERSON, index, null, new JsonAdaptedPerson(details), null);
+    }
+
+    /**
+     * Returns a record deleting the person named {@code name}.
+     */
+    static JsonJournalRecord deletePerson(Name name) {
+        return new JsonJournalRecord(DELETE_PERSON, null, name.fullName, null, null);
+    }
+
+    /**
+     * Returns a record putting {@code appointment} at {@code index} of the appointment list.
+     * The client of the appointment is kept as the key, since adapted appointments do not store it.
+     */
+    static JsonJournalRecord putAppointment(int index, Appointment appointment) {
+        requireNonNull(appointment);
+        return new JsonJournalRecord(PUT_APPOINTMENT, index, appointment.getClientName().fullName, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns a record deleting the appointment with the given {@code id}.
+     */
+    static JsonJournalRecord deleteAppointment(AppointmentId id) {
+        return new JsonJournalRecord(DELETE_APPOINTMENT, null, id.toString(), null, null);
+    }
+
+    /**
+     * Returns a record setting the appointment id counter to {@code counter}.
+     */
+    static JsonJournalRecord setNextAppointmentId(String counter) {
+        return new JsonJournalRecord(SET_NEXT_APPOINTMENT_ID, null, counter, null, null);
+    }
+
+    /**
+     * Applies this record to the data being replayed.
+     *
+     * @throws IllegalValueException if this record is not valid.
+     */
+    void applyTo(JournalReplay replay) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        switch (op) {
+        case PUT_PERSON:
+            replay.putPerson(requireField(index, "index"), requireField(person, "person").toModelType());
+            return;
+        case DELETE_PERSON:
+            replay.deletePerson(toName(requireField(key, "key")));
+            return;
+        case PUT_APPOINTMENT:
+            Name clientName = toName(requireField(key, "key"));
+            replay.putAppointment(requireField(index, "index"),
+                    requireField(appointment, "appointment").toModelType(clientName));
+            return;
+        case DELETE_APPOINTMENT:
+            replay.deleteAppointment(new AppointmentId(requireField(key, "key")));
+            return;
+        case SET_NEXT_APPOINTMENT_ID:
+            if (!AppointmentIdAllocator.isValidCounter(requireField(key, "key"))) {
+                throw new IllegalValueException(AppointmentIdAllocator.MESSAGE_CONSTRAINTS);
+            }
+            replay.setNextAppointmentId(key);
+            return;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private static Name toName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static <T> T requireField(T value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return value;
+    }
+}
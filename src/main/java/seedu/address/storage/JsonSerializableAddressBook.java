@@ -1,16 +1,26 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentIdAllocator;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,15 +30,21 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_APPOINTMENT_ID = "Appointments list contains duplicate id(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Data file does not contain an address book.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final String nextAppointmentId;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and appointment id counter.
+     * Data files written before the counter was saved have no {@code nextAppointmentId}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("nextAppointmentId") String nextAppointmentId) {
         this.persons.addAll(persons);
+        this.nextAppointmentId = nextAppointmentId;
     }
 
     /**
@@ -38,6 +54,22 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        nextAppointmentId = source.getNextAppointmentId();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same form as a {@code JsonSerializableAddressBook} of it,
+     * converting one person at a time rather than all of them up front.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeStringField("nextAppointmentId", source.getNextAppointmentId());
+        generator.writeEndObject();
     }
 
     /**
@@ -47,15 +79,89 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        setNextAppointmentId(addressBook, nextAppointmentId);
+        List<Appointment> appointments = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(addressBook, jsonAdaptedPerson.toModelType(), appointments);
+        }
+        setAppointments(addressBook, appointments);
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book written in the form of a {@code JsonSerializableAddressBook} from {@code parser},
+     * converting each person into the model's {@code Person} as it is read, so that only the address book is
+     * built up in memory.
+     *
+     * @throws IOException if the data is not valid JSON, or not in the form of an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(MESSAGE_NOT_ADDRESS_BOOK, parser.getCurrentLocation());
+        }
+        AddressBook addressBook = new AddressBook();
+        List<Appointment> appointments = new ArrayList<>();
+        String nextAppointmentId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("persons") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    addPerson(addressBook, parser.readValueAs(JsonAdaptedPerson.class).toModelType(), appointments);
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(MESSAGE_NOT_ADDRESS_BOOK, parser.getCurrentLocation());
+                }
+            } else if (fieldName.equals("nextAppointmentId") && value == JsonToken.VALUE_STRING) {
+                nextAppointmentId = parser.getText();
+            } else {
+                // other fields are ignored, as they are when the whole file is read
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
-            person.getAppointments().forEach(addressBook::addAppointment);
         }
+        setAppointments(addressBook, appointments);
+        setNextAppointmentId(addressBook, nextAppointmentId);
         return addressBook;
     }
 
+    private static void setNextAppointmentId(AddressBook addressBook, String nextAppointmentId)
+            throws IllegalValueException {
+        if (nextAppointmentId == null) {
+            return;
+        }
+        if (!AppointmentIdAllocator.isValidCounter(nextAppointmentId)) {
+            throw new IllegalValueException(AppointmentIdAllocator.MESSAGE_CONSTRAINTS);
+        }
+        addressBook.setNextAppointmentId(nextAppointmentId);
+    }
+
+    /**
+     * Sets the appointments of {@code addressBook} to {@code appointments}, which must have unique ids,
+     * as appointments are looked up and linked by their id.
+     */
+    private static void setAppointments(AddressBook addressBook, List<Appointment> appointments)
+            throws IllegalValueException {
+        Set<AppointmentId> ids = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!ids.add(appointment.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT_ID);
+            }
+        }
+        addressBook.setAppointments(appointments);
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook} and collects its appointments into {@code appointments}, so that
+     * the appointments of all persons are added together once every person is read.
+     */
+    private static void addPerson(AddressBook addressBook, Person person, List<Appointment> appointments)
+            throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+        appointments.addAll(person.getAppointments());
+    }
+
 }
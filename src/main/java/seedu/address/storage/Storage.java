@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,28 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves a copy of the current data of {@code addressBook} on a background thread, and returns without waiting.
+     * Copies saved in quick succession may be combined into a single write of the latest copy.
+     * Failed writes are reported to the handler set by {@link #setAddressBookSaveFailureHandler(Consumer)}.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Sets the handler to which the errors of failed background saves are reported.
+     * The handler is called on the background thread.
+     */
+    void setAddressBookSaveFailureHandler(Consumer<IOException> failureHandler);
+
+    /**
+     * Waits until every background save started so far has been written.
+     */
+    void flushAddressBook();
+
+    /**
+     * Waits until every background save started so far has been written, and stops the background thread.
+     * No background saves can be started afterwards.
+     */
+    void close();
+
 }
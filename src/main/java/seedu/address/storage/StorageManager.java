@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookSaveWorker saveWorker;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +28,7 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveWorker = new AddressBookSaveWorker(addressBookStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +78,24 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        saveWorker.submit(new AddressBookSnapshot(addressBook));
+    }
+
+    @Override
+    public void setAddressBookSaveFailureHandler(Consumer<IOException> failureHandler) {
+        saveWorker.setFailureHandler(failureHandler);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        saveWorker.flush();
+    }
+
+    @Override
+    public void close() {
+        saveWorker.close();
+    }
+
 }
@@ -8,8 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,12 +25,18 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ViewMode;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -137,11 +147,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPersonsNamed(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithRank(Rank rank) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -163,6 +188,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public QueryPlan<Person> updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasAppointment(Appointment appointment) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +203,33 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Appointment> getUpcomingAppointments(LocalDateTime from, int count,
+                                                         Predicate<? super Appointment> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getUpcomingAppointmentsOf(Name clientName, LocalDateTime from, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getConfirmedAppointmentsOf(Name clientName, LocalDateTime start,
+                                                            LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AppointmentConflict> getConfirmedConflicts(Function<? super Appointment, ?> groupKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Appointment> getAppointmentById(AppointmentId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAppointment(Appointment appointment) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +270,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public QueryPlan<Appointment> updateFilteredAppointmentList(AppointmentQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPendingFilters() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setViewMode(ViewMode mode) {
             throw new AssertionError("This method should not be called.");
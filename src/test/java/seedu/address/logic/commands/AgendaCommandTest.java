@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.ViewMode;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.rank.Rank;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AgendaCommandTest {
+
+    private final Appointment cancelledAliceAppt = new AppointmentBuilder().withId("a1")
+            .withName(ALICE.getName().fullName).withDateTime("01-01-3099 0900").withStatus("cancelled").build();
+    private final Appointment elleAppt = new AppointmentBuilder().withId("e1")
+            .withName(ELLE.getName().fullName).withDateTime("01-01-3099 1200").build();
+    private final Appointment aliceAppt = new AppointmentBuilder().withId("a2")
+            .withName(ALICE.getName().fullName).withDateTime("02-01-3099 0900").build();
+    private final Appointment bensonAppt = new AppointmentBuilder().withId("b1")
+            .withName(BENSON.getName().fullName).withDateTime("03-01-3099 0900").withStatus("confirmed").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // added out of time order, after the past appointments of the typical address book
+        Arrays.asList(bensonAppt, aliceAppt, elleAppt, cancelledAliceAppt).forEach(model::addAppointment);
+    }
+
+    @Test
+    public void execute_count_nextAppointmentsNotCancelledInTimeOrder() {
+        CommandResult result = new AgendaCommand(2, Optional.empty(), Optional.empty()).execute(model);
+
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 2)
+                + "\n" + ELLE.getName() + ": " + Messages.format(elleAppt)
+                + "\n" + ALICE.getName() + ": " + Messages.format(aliceAppt);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(aliceAppt, elleAppt), model.getFilteredAppointmentList());
+        assertEquals(ViewMode.APPOINTMENTS, model.getObservableViewMode().get());
+    }
+
+    @Test
+    public void execute_client_onlyAppointmentsOfClient() {
+        new AgendaCommand(5, Optional.of(new Name("alice  PAULINE")), Optional.empty()).execute(model);
+        assertEquals(Arrays.asList(aliceAppt), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_clientAndRank_onlyAppointmentsOfClientOfRank() {
+        new AgendaCommand(5, Optional.of(new Name("Alice Pauline")), Optional.of(new Rank("stable"))).execute(model);
+        assertEquals(Arrays.asList(aliceAppt), model.getFilteredAppointmentList());
+
+        new AgendaCommand(5, Optional.of(new Name("Alice Pauline")), Optional.of(new Rank("crisis"))).execute(model);
+        assertTrue(model.getFilteredAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void execute_rank_onlyAppointmentsOfClientsOfRank() {
+        CommandResult result = new AgendaCommand(5, Optional.empty(), Optional.of(new Rank("stable")))
+                .execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AgendaCommand.MESSAGE_SUCCESS, 2)));
+        assertEquals(Arrays.asList(bensonAppt, aliceAppt), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_rankOfFewClients_onlyTheirOwnAppointments() {
+        // one appointment each is few enough for only the appointments of the clients of the rank to be looked at
+        new AgendaCommand(1, Optional.empty(), Optional.of(new Rank("stable"))).execute(model);
+        assertEquals(Arrays.asList(aliceAppt), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_appointmentEdited_agendaUpdated() {
+        Appointment rescheduled = new AppointmentBuilder(bensonAppt).withDateTime("01-01-3099 0800").build();
+        model.setAppointment(bensonAppt, rescheduled);
+        model.deleteAppointment(elleAppt);
+        CommandResult result = new AgendaCommand(1, Optional.empty(), Optional.empty()).execute(model);
+        assertTrue(result.getFeedbackToUser().endsWith(Messages.format(rescheduled)));
+    }
+
+    @Test
+    public void execute_listedAppointmentEditedAfterwards_editedAppointmentStillListed() {
+        new AgendaCommand(5, Optional.of(new Name("Alice Pauline")), Optional.empty()).execute(model);
+        Appointment editedAliceAppt = new AppointmentBuilder(aliceAppt).withMessage("Bring the contract").build();
+        model.setAppointment(aliceAppt, editedAliceAppt);
+        assertEquals(Arrays.asList(editedAliceAppt), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand agendaCommand = new AgendaCommand(3, Optional.empty(), Optional.of(new Rank("stable")));
+
+        // same object -> returns true
+        assertTrue(agendaCommand.equals(agendaCommand));
+
+        // same values -> returns true
+        assertTrue(agendaCommand.equals(new AgendaCommand(3, Optional.empty(), Optional.of(new Rank("stable")))));
+
+        // different types -> returns false
+        assertFalse(agendaCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(agendaCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(agendaCommand.equals(new AgendaCommand(4, Optional.empty(), Optional.of(new Rank("stable")))));
+
+        // different client -> returns false
+        assertFalse(agendaCommand.equals(new AgendaCommand(3, Optional.of(ALICE.getName()),
+                Optional.of(new Rank("stable")))));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ConflictsCommand.Grouping;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.ViewMode;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class ConflictsCommandTest {
+
+    private final Appointment aliceMorning = confirmedAt("a1", ALICE, "01-01-3099 0900", "Office");
+    private final Appointment aliceOverlapping = confirmedAt("a2", ALICE, "01-01-3099 0930", "Clinic");
+    private final Appointment bensonOverlapping = confirmedAt("b1", BENSON, "01-01-3099 0945", "Office");
+    private final Appointment bensonAfter = confirmedAt("b2", BENSON, "01-01-3099 1000", "Office");
+    private final Appointment alicePlanned = new AppointmentBuilder(aliceMorning).withId("a3")
+            .withStatus("planned").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Arrays.asList(bensonAfter, aliceOverlapping, alicePlanned, aliceMorning, bensonOverlapping)
+                .forEach(model::addAppointment);
+    }
+
+    @Test
+    public void execute_all_everyOverlappingConfirmedPairFound() {
+        CommandResult result = new ConflictsCommand(Grouping.ALL).execute(model);
+
+        // appointments touching only at an endpoint do not overlap, and planned ones are ignored
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ConflictsCommand.MESSAGE_SUCCESS, 5)));
+        assertEquals(Arrays.asList(bensonAfter, aliceOverlapping, aliceMorning, bensonOverlapping),
+                model.getFilteredAppointmentList());
+        assertEquals(ViewMode.APPOINTMENTS, model.getObservableViewMode().get());
+    }
+
+    @Test
+    public void execute_client_onlyPairsOfSameClientFound() {
+        CommandResult result = new ConflictsCommand(Grouping.CLIENT).execute(model);
+        assertEquals(String.format(ConflictsCommand.MESSAGE_SUCCESS, 2)
+                + "\na1 (Alice Pauline, 01-01-3099 0900) overlaps a2 (Alice Pauline, 01-01-3099 0930)"
+                + "\nb1 (Benson Meier, 01-01-3099 0945) overlaps b2 (Benson Meier, 01-01-3099 1000)",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_location_onlyPairsAtSameLocationFound() {
+        new ConflictsCommand(Grouping.LOCATION).execute(model);
+        assertEquals(Arrays.asList(bensonAfter, aliceMorning, bensonOverlapping), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_listedAppointmentEditedAfterwards_editedAppointmentStillListed() {
+        new ConflictsCommand(Grouping.CLIENT).execute(model);
+        Appointment editedAliceMorning = new AppointmentBuilder(aliceMorning).withMessage("Moved to noon").build();
+        model.setAppointment(aliceMorning, editedAliceMorning);
+        assertTrue(model.getFilteredAppointmentList().contains(editedAliceMorning));
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand conflictsCommand = new ConflictsCommand(Grouping.CLIENT);
+
+        // same values -> returns true
+        assertTrue(conflictsCommand.equals(new ConflictsCommand(Grouping.CLIENT)));
+
+        // null -> returns false
+        assertFalse(conflictsCommand.equals(null));
+
+        // different grouping -> returns false
+        assertFalse(conflictsCommand.equals(new ConflictsCommand(Grouping.ALL)));
+    }
+
+    private static Appointment confirmedAt(String id, Person client, String dateTime, String location) {
+        return new AppointmentBuilder().withId(id).withName(client.getName().fullName).withDateTime(dateTime)
+                .withLength("60").withLocation(location).withStatus("confirmed").build();
+    }
+}
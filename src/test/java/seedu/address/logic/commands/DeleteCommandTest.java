@@ -45,6 +45,21 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_nameInDifferentCaseUnfilteredList_success() {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Name nameToDelete = new Name(personToDelete.getName().fullName.toUpperCase());
+        DeleteCommand deleteCommand = new DeleteCommand(nameToDelete);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(personToDelete));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidNameUnfilteredList_throwsCommandException() {
         DeleteCommand deleteCommand = new DeleteCommand(NAME_DOES_NOT_EXIST);
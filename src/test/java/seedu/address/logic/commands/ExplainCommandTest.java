@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
+
+public class ExplainCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindCommand findFirstCommand = new FindCommand(PersonQuery.build().setName(new String[] {"first"}));
+        FindCommand findSecondCommand = new FindCommand(PersonQuery.build().setName(new String[] {"second"}));
+        ExplainCommand explainFirstCommand = new ExplainCommand(findFirstCommand);
+
+        // same object -> returns true
+        assertTrue(explainFirstCommand.equals(explainFirstCommand));
+
+        // same values -> returns true
+        assertTrue(explainFirstCommand.equals(new ExplainCommand(findFirstCommand)));
+
+        // different types -> returns false
+        assertFalse(explainFirstCommand.equals(findFirstCommand));
+
+        // null -> returns false
+        assertFalse(explainFirstCommand.equals(null));
+
+        // different find command -> returns false
+        assertFalse(explainFirstCommand.equals(new ExplainCommand(findSecondCommand)));
+    }
+
+    @Test
+    public void execute_personQuery_filtersLikeFindAndShowsPlan() throws Exception {
+        PersonQuery query = PersonQuery.build().setName(new String[] {"meier"}).setRank(new Rank("stable"));
+        CommandResult result = new ExplainCommand(new FindCommand(query)).execute(model);
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), lines[0]);
+        assertTrue(lines[1].startsWith("persons: "));
+        assertTrue(result.getFeedbackToUser().contains("name trigrams"));
+        assertTrue(result.getFeedbackToUser().contains("rank bitmaps"));
+    }
+
+    @Test
+    public void execute_appointmentQuery_showsBothPlans() throws Exception {
+        AppointmentQuery query = AppointmentQuery.build().setStatus(new AppointmentStatus("planned"));
+        CommandResult result = new ExplainCommand(new FindCommand(PersonQuery.build(), query)).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
+                model.getFilteredAppointmentList().size())));
+        assertTrue(feedback.contains("\npersons: full scan"));
+        assertTrue(feedback.contains("\nappointments: "));
+        assertTrue(feedback.contains("status bitmaps"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindCommand findCommand = new FindCommand(PersonQuery.build());
+        ExplainCommand explainCommand = new ExplainCommand(findCommand);
+        String expected = ExplainCommand.class.getCanonicalName() + "{findCommand=" + findCommand + "}";
+        assertEquals(expected, explainCommand.toString());
+    }
+}
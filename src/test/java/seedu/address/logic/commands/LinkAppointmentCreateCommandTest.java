@@ -12,9 +12,13 @@ import static seedu.address.testutil.TypicalPersons.DUMMY_APPT;
 import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -38,6 +42,8 @@ import seedu.address.testutil.PersonBuilder;
  * time clashes between clients
  */
 public class LinkAppointmentCreateCommandTest {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
     @Test
@@ -79,7 +85,7 @@ public class LinkAppointmentCreateCommandTest {
         cmd = new LinkAppointmentCreateCommand(
                 client.getName(), modifiedLengthAppointment)
                 .setAppointmentId(new AppointmentId("testing II"));
-        expectedModel.addAppointmentWithPerson(modifiedLengthAppointment, client.withAddedAppointment(appt));
+        expectedModel.addAppointmentWithPerson(modifiedLengthAppointment, client);
         assertCommandSuccess(cmd, model, String.format(
             LinkAppointmentCommand.MESSAGE_SUCCESS, client.getName(),
             Messages.format(modifiedLengthAppointment)), expectedModel);
@@ -177,13 +183,41 @@ public class LinkAppointmentCreateCommandTest {
 
         LinkAppointmentCommand secondCmd = new LinkAppointmentCreateCommand(
                 client.getName(), secondAliceAppointment).setAppointmentId(new AppointmentId("testing II"));
-        expectedModel.addAppointmentWithPerson(secondAliceAppointment,
-                client.withAddedAppointment(firstAliceAppointment));
+        expectedModel.addAppointmentWithPerson(secondAliceAppointment, client);
         assertCommandSuccess(secondCmd, model, String.format(
                 LinkAppointmentCommand.MESSAGE_SUCCESS, client.getName(),
                 Messages.format(secondAliceAppointment)), expectedModel);
     }
 
+    @Test
+    public void execute_clientWithManyAppointments_everyLinkAdded() throws Exception {
+        Person client = new PersonBuilder(ALICE).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(client);
+        LocalDateTime start = LocalDateTime.of(3000, 1, 1, 9, 0);
+        for (int i = 0; i < 500; i++) {
+            addressBook.addAppointment(new AppointmentBuilder()
+                .withId("existing" + i)
+                .withName(client.getName().toString())
+                .withDateTime(start.plusHours(2L * i).format(DATE_TIME_FORMAT))
+                .build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        LocalDateTime linkStart = start.minusYears(1);
+        for (int i = 0; i < 20; i++) {
+            Appointment appointment = new AppointmentBuilder()
+                .withName(client.getName().toString())
+                .withDateTime(linkStart.plusHours(2L * i).format(DATE_TIME_FORMAT))
+                .build();
+            new LinkAppointmentCreateCommand(client.getName(), appointment)
+                .setAppointmentId(new AppointmentId("link" + i)).execute(model);
+        }
+        assertEquals(520, model.getAddressBook().getAppointmentList().size());
+        assertEquals(520, model.getFilteredAppointmentList().size());
+        assertTrue(model.getAppointmentById(new AppointmentId("link19")).isPresent());
+    }
+
     @Test
     public void equals() {
         LinkAppointmentCommand aliceMeeting = new LinkAppointmentCreateCommand(
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTimeQuery;
+import seedu.address.model.appointment.AppointmentLength;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.DateTimeUtil;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class SlotsCommandTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(3099, 1, 1, 0, 0);
+    private static final AppointmentDateTimeQuery WHOLE_DAY = new AppointmentDateTimeQuery(DAY);
+    private static final AppointmentLength HOUR = new AppointmentLength("60");
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime FIVE = LocalTime.of(17, 0);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Arrays.asList(
+                appointmentAt("a1", ALICE, "01-01-3099 0900", "confirmed"),
+                appointmentAt("a2", ALICE, "01-01-3099 1200", "confirmed"),
+                appointmentAt("a3", ALICE, "01-01-3099 1400", "planned"),
+                appointmentAt("b1", BENSON, "01-01-3099 1500", "confirmed"))
+                .forEach(model::addAppointment);
+    }
+
+    @Test
+    public void execute_clientWithAppointments_slotsAroundConfirmedAppointments() throws Exception {
+        CommandResult result = new SlotsCommand(new Name("alice  pauline"), WHOLE_DAY, HOUR, NINE, FIVE)
+                .execute(model);
+
+        // planned appointments and those of other clients do not take up the client's time
+        assertEquals(String.format(SlotsCommand.MESSAGE_SUCCESS, 2, ALICE.getName())
+                + "\n01-01-3099 1000 to 01-01-3099 1200"
+                + "\n01-01-3099 1300 to 01-01-3099 1700", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_rangeInPast_noSlots() throws Exception {
+        AppointmentDateTimeQuery past = new AppointmentDateTimeQuery(LocalDateTime.of(2000, 1, 1, 0, 0));
+        CommandResult result = new SlotsCommand(ALICE.getName(), past, HOUR, NINE, FIVE).execute(model);
+        assertEquals(String.format(SlotsCommand.MESSAGE_SUCCESS, 0, ALICE.getName()), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_rangeFromNow_slotsStartAfterNow() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        AppointmentDateTimeQuery aroundNow = new AppointmentDateTimeQuery(now.minusDays(1), now.plusDays(1));
+        CommandResult result = new SlotsCommand(ALICE.getName(), aroundNow, new AppointmentLength("1"),
+                LocalTime.MIDNIGHT, LocalTime.of(23, 59)).execute(model);
+
+        // slots are shown to the minute, so the first one must start at a whole minute after now
+        String firstSlot = result.getFeedbackToUser().split("\n")[1];
+        assertTrue(DateTimeUtil.localDateTimeFromString(firstSlot.split(" to ")[0]).isAfter(now));
+    }
+
+    @Test
+    public void execute_unknownClient_throwsCommandException() {
+        assertCommandFailure(new SlotsCommand(new Name("Nobody"), WHOLE_DAY, HOUR, NINE, FIVE), model,
+                Messages.MESSAGE_PERSON_DOES_NOT_EXIST);
+    }
+
+    @Test
+    public void equals() {
+        SlotsCommand slotsCommand = new SlotsCommand(ALICE.getName(), WHOLE_DAY, HOUR, NINE, FIVE);
+
+        // same values -> returns true
+        assertTrue(slotsCommand.equals(new SlotsCommand(ALICE.getName(), WHOLE_DAY, HOUR, NINE, FIVE)));
+
+        // null -> returns false
+        assertFalse(slotsCommand.equals(null));
+
+        // different client -> returns false
+        assertFalse(slotsCommand.equals(new SlotsCommand(BENSON.getName(), WHOLE_DAY, HOUR, NINE, FIVE)));
+
+        // different working hours -> returns false
+        assertFalse(slotsCommand.equals(new SlotsCommand(ALICE.getName(), WHOLE_DAY, HOUR, NINE, NINE.plusHours(1))));
+    }
+
+    private static Appointment appointmentAt(String id, Person client, String dateTime, String status) {
+        return new AppointmentBuilder().withId(id).withName(client.getName().fullName).withDateTime(dateTime)
+                .withLength("60").withStatus(status).build();
+    }
+}
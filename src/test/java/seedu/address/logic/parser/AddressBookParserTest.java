@@ -11,19 +11,24 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SlotsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -79,6 +84,14 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(
+                ExplainCommand.COMMAND_WORD + " " + PREFIX_NAME + "foo bar");
+        assertEquals(new ExplainCommand(new FindCommand(PersonQuery.build().setName(new String[] {"foo", "bar"}))),
+                command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -98,6 +111,24 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        assertEquals(new AgendaCommand(3, Optional.empty(), Optional.empty()),
+                parser.parseCommand(AgendaCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertEquals(new ConflictsCommand(ConflictsCommand.Grouping.CLIENT),
+                parser.parseCommand(ConflictsCommand.COMMAND_WORD + " client"));
+    }
+
+    @Test
+    public void parseCommand_slots() throws Exception {
+        assertTrue(parser.parseCommand(SlotsCommand.COMMAND_WORD + " n/Alice Pauline appt/+7 len/30")
+                instanceof SlotsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
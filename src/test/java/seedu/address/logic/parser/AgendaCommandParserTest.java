@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.RANK_DESC_STABLE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_RANK_STABLE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.rank.Rank;
+
+public class AgendaCommandParserTest {
+
+    private final AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_noArgs_defaultCount() {
+        assertParseSuccess(parser, "  ",
+                new AgendaCommand(AgendaCommand.DEFAULT_COUNT, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allArgs_returnsAgendaCommand() {
+        assertParseSuccess(parser, " 10" + NAME_DESC_AMY + RANK_DESC_STABLE,
+                new AgendaCommand(10, Optional.of(new Name(VALID_NAME_AMY)), Optional.of(new Rank(VALID_RANK_STABLE))));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " ten", expectedMessage);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, RANK_DESC_STABLE + RANK_DESC_STABLE,
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_RANK));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ConflictsCommand.Grouping;
+
+public class ConflictsCommandParserTest {
+
+    private final ConflictsCommandParser parser = new ConflictsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConflictsCommand() {
+        assertParseSuccess(parser, "  ", new ConflictsCommand(Grouping.ALL));
+        assertParseSuccess(parser, " client ", new ConflictsCommand(Grouping.CLIENT));
+        assertParseSuccess(parser, " Location", new ConflictsCommand(Grouping.LOCATION));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " type",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE));
+    }
+}
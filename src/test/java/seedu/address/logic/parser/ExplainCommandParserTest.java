@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.RANK_DESC_STABLE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_RANK_STABLE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.rank.Rank;
+
+public class ExplainCommandParserTest {
+
+    private final ExplainCommandParser parser = new ExplainCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFindArgs_throwsParseException() {
+        assertParseFailure(parser, "preamble",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validFindArgs_returnsExplainCommand() {
+        FindCommand findCommand = new FindCommand(PersonQuery.build().setRank(new Rank(VALID_RANK_STABLE)));
+        assertParseSuccess(parser, RANK_DESC_STABLE, new ExplainCommand(findCommand));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SlotsCommand;
+import seedu.address.model.appointment.AppointmentDateTimeQuery;
+import seedu.address.model.appointment.AppointmentLength;
+import seedu.address.model.person.Name;
+
+public class SlotsCommandParserTest {
+    private static final Name NAME = new Name("Alice Pauline");
+    private static final AppointmentDateTimeQuery DAY =
+            new AppointmentDateTimeQuery(LocalDateTime.of(3099, 1, 1, 0, 0));
+    private static final AppointmentLength HOUR = new AppointmentLength("60");
+
+    private final SlotsCommandParser parser = new SlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSlotsCommand() {
+        assertParseSuccess(parser, " n/Alice Pauline appt/01-01-3099 len/60",
+                new SlotsCommand(NAME, DAY, HOUR, SlotsCommand.DEFAULT_DAY_START, SlotsCommand.DEFAULT_DAY_END));
+        assertParseSuccess(parser, " n/Alice Pauline appt/01-01-3099 len/60 hours/0830-1215",
+                new SlotsCommand(NAME, DAY, HOUR, LocalTime.of(8, 30), LocalTime.of(12, 15)));
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " appt/01-01-3099 len/60", expectedMessage);
+        assertParseFailure(parser, " n/Alice Pauline len/60", expectedMessage);
+        assertParseFailure(parser, " n/Alice Pauline appt/01-01-3099", expectedMessage);
+        assertParseFailure(parser, " 3 n/Alice Pauline appt/01-01-3099 len/60", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidHours_throwsParseException() {
+        String args = " n/Alice Pauline appt/01-01-3099 len/60 hours/";
+        assertParseFailure(parser, args + "0900", SlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, args + "2400-0100", SlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, args + "1700-0900", SlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, args + "0900-0900", SlotsCommandParser.MESSAGE_INVALID_HOURS);
+    }
+}
@@ -9,11 +9,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -88,6 +90,30 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_readsAndWrites_changedOnlyByWrites() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        Appointment appointment = new AppointmentBuilder().withName(ALICE.getName().fullName).build();
+        addressBook.addAppointment(appointment);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.generateId();
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.removeAppointment(appointment);
+        assertTrue(addressBook.getVersion() != version);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -102,8 +128,18 @@ public class AddressBookTest {
     }
 
     @Test
-    public void updateIdList_success() {
-        assertEquals(0, addressBook.getIdList().size());
+    public void generateId_afterResetData_continuesFromSavedCounter() {
+        AddressBook source = new AddressBook();
+        source.setNextAppointmentId("a");
+        addressBook.resetData(source);
+        assertEquals(new AppointmentId("000000a"), addressBook.generateId());
+        assertEquals(new AppointmentId("000000b"), addressBook.generateId());
+        assertEquals("c", addressBook.getNextAppointmentId());
+    }
+
+    @Test
+    public void updateIdSet_success() {
+        assertEquals(0, addressBook.getIdSet().size());
 
         //add new appt with id
         Appointment tempAppt = new AppointmentBuilder(TypicalPersons.DUMMY_APPT)
@@ -111,19 +147,70 @@ public class AddressBookTest {
 
         addressBook.addAppointment(tempAppt);
 
-        assertEquals(1, addressBook.getIdList().size());
+        assertEquals(1, addressBook.getIdSet().size());
 
         //edit an appointment
         Appointment updatedAppt = new AppointmentBuilder(tempAppt).withLength("60").build();
 
         addressBook.setAppointment(tempAppt, updatedAppt);
 
-        assertEquals(1, addressBook.getIdList().size());
+        assertEquals(1, addressBook.getIdSet().size());
 
         //delete appointment
         addressBook.removeAppointment(updatedAppt);
 
-        assertEquals(0, addressBook.getIdList().size());
+        assertEquals(0, addressBook.getIdSet().size());
+    }
+
+    @Test
+    public void getAppointmentById_afterEditAndDelete_returnsCurrentAppointment() {
+        Appointment tempAppt = new AppointmentBuilder(TypicalPersons.DUMMY_APPT).withId("abc").build();
+        AppointmentId id = new AppointmentId("abc");
+        assertEquals(Optional.empty(), addressBook.getAppointmentById(id));
+
+        addressBook.addAppointment(tempAppt);
+        assertEquals(Optional.of(tempAppt), addressBook.getAppointmentById(id));
+
+        Appointment updatedAppt = new AppointmentBuilder(tempAppt).withLength("60").build();
+        addressBook.setAppointment(tempAppt, updatedAppt);
+        assertEquals(Optional.of(updatedAppt), addressBook.getAppointmentById(id));
+
+        addressBook.removeAppointment(updatedAppt);
+        assertEquals(Optional.empty(), addressBook.getAppointmentById(id));
+    }
+
+    @Test
+    public void addAppointment_clientInAddressBook_appointmentShownWithoutRebuildingClient() {
+        addressBook.addPerson(ALICE);
+        Person alice = addressBook.getPersonList().get(0);
+        Appointment appt = new AppointmentBuilder().withName(ALICE.getName().fullName).build();
+        addressBook.addAppointment(appt);
+        assertTrue(alice == addressBook.getPersonList().get(0));
+        assertEquals(List.of(appt), alice.getAppointments());
+
+        addressBook.removeAppointment(appt);
+        assertTrue(alice.getAppointments().isEmpty());
+    }
+
+    @Test
+    public void setPerson_nameChanged_appointmentsMoveToEditedPerson() {
+        addressBook.addPerson(ALICE);
+        Appointment appt = new AppointmentBuilder().withName(ALICE.getName().fullName).build();
+        addressBook.addAppointment(appt);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        Appointment expectedAppt = new AppointmentBuilder(appt).withName("Alice Renamed").build();
+        assertEquals(List.of(expectedAppt), addressBook.getAppointmentList());
+        assertEquals(List.of(expectedAppt), addressBook.getPersonList().get(0).getAppointments());
+    }
+
+    @Test
+    public void removePerson_personWithAppointments_appointmentsRemoved() {
+        addressBook.addPerson(ALICE);
+        addressBook.addAppointment(new AppointmentBuilder().withName(ALICE.getName().fullName).build());
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getAppointmentList().isEmpty());
     }
 
     /**
@@ -132,7 +219,7 @@ public class AddressBookTest {
     private static class AddressBookStub implements ReadOnlyAddressBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
         private final ObservableList<Appointment> appointments = FXCollections.observableArrayList();
-        private List<AppointmentId> idList = new ArrayList<>();
+        private Set<AppointmentId> idSet = new HashSet<>();
 
         AddressBookStub(Collection<Person> persons) {
             this.persons.setAll(persons);
@@ -149,8 +236,13 @@ public class AddressBookTest {
         }
 
         @Override
-        public List<AppointmentId> getIdList() {
-            return idList;
+        public Set<AppointmentId> getIdSet() {
+            return idSet;
+        }
+
+        @Override
+        public String getNextAppointmentId() {
+            return "0";
         }
     }
 }
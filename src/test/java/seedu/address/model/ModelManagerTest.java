@@ -3,20 +3,37 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentQuery;
+import seedu.address.model.appointment.AppointmentStatus;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.Phone;
+import seedu.address.model.rank.Rank;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +110,125 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredAppointmentList_personsFiltered_onlyVisibleClientsAppointmentsShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> person.isSamePerson(BENSON));
+        modelManager.updateFilteredAppointmentList(Model.PREDICATE_SHOW_ALL_APPOINTMENTS);
+        assertEquals(Collections.singletonList(DENTIST_APPT), modelManager.getFilteredAppointmentList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredAppointmentList(Model.PREDICATE_SHOW_ALL_APPOINTMENTS);
+        assertEquals(modelManager.getAddressBook().getAppointmentList(), modelManager.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personQuery_sameAsFilteringByQuery() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonQuery query = PersonQuery.build().setName(new String[] {"MEIER", "ku"});
+        modelManager.updateFilteredPersonList(query::filter);
+        List<Person> expected = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(query);
+        assertEquals(expected, modelManager.getFilteredPersonList());
+
+        query = PersonQuery.build().setName(new String[] {"meier"}).setPhone(new Phone(BENSON.getPhone().value));
+        modelManager.updateFilteredPersonList(query);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankQuery_onlyPersonsOfRankShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonQuery query = PersonQuery.build().setRank(new Rank("stable")).setName(new String[] {"mei"});
+        modelManager.updateFilteredPersonList(query::filter);
+        List<Person> expected = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(query);
+        assertEquals(expected, modelManager.getFilteredPersonList());
+        assertFalse(expected.isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagQuery_onlyPersonsWithAllTagsShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonQuery query = PersonQuery.build().setTags(Set.of(new Tag("friends"), new Tag("owesMoney")));
+        modelManager.updateFilteredPersonList(query);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        query = PersonQuery.build().setTags(Set.of(new Tag("friends"), new Tag("unknown")));
+        modelManager.updateFilteredPersonList(query);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEditedAfterQuery_editedPersonStillShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonQuery query = PersonQuery.build().setTags(Set.of(new Tag("friends"), new Tag("owesMoney")));
+        modelManager.updateFilteredPersonList(query);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91111111").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredAppointmentList_appointmentQuery_sameAsFilteringByQuery() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AppointmentQuery query = AppointmentQuery.build()
+                .setStatus(new AppointmentStatus("planned"))
+                .setType(DENTIST_APPT.getType());
+        modelManager.updateFilteredAppointmentList(query);
+        assertEquals(Collections.singletonList(DENTIST_APPT), modelManager.getFilteredAppointmentList());
+
+        query = AppointmentQuery.build().setStatus(new AppointmentStatus("confirmed"));
+        modelManager.updateFilteredAppointmentList(query);
+        assertTrue(modelManager.getFilteredAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_evaluatedInParallel_sameAsSerial() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager parallelModelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), 0);
+        PersonQuery query = PersonQuery.build().setName(new String[] {"MEIER", "ku"});
+        modelManager.updateFilteredPersonList(query);
+        parallelModelManager.updateFilteredPersonList(query);
+        assertEquals(modelManager.getFilteredPersonList(), parallelModelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        parallelModelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        assertEquals(modelManager.getFilteredAppointmentList(), parallelModelManager.getFilteredAppointmentList());
+
+        // a person edited after the find is checked against the query again
+        Person shown = parallelModelManager.getFilteredPersonList().get(0);
+        parallelModelManager.setPerson(shown, new PersonBuilder(shown).withPhone("91111111").build());
+        assertEquals(1, parallelModelManager.getFilteredPersonList().stream()
+                .filter(person -> person.getPhone().value.equals("91111111")).count());
+    }
+
+    @Test
+    public void addAppointment_allAppointmentsShown_newAppointmentShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        Appointment appointment = new AppointmentBuilder().withId("added").withName(ALICE.getName().toString())
+                .withDateTime("12-10-3099 1430").build();
+        modelManager.addAppointment(appointment);
+        assertEquals(modelManager.getAddressBook().getAppointmentList(), modelManager.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void addAppointment_personsFiltered_onlyAppointmentsOfShownPersonsShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        Appointment appointment = new AppointmentBuilder().withId("added").withName(ALICE.getName().toString())
+                .withDateTime("12-10-3099 1430").build();
+        modelManager.addAppointment(appointment);
+        assertFalse(modelManager.getFilteredAppointmentList().contains(appointment));
+        assertTrue(modelManager.getFilteredAppointmentList().stream()
+                .allMatch(appt -> appt.getClientName().equals(BENSON.getName())));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
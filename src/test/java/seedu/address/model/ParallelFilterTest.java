@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    private static final Predicate<Integer> MULTIPLE_OF_SEVEN = n -> n % 7 == 0;
+
+    @Test
+    public void apply_null_throwsNullPointerException() {
+        ParallelFilter parallelFilter = new ParallelFilter(0);
+        assertThrows(NullPointerException.class, () -> parallelFilter.apply(null, MULTIPLE_OF_SEVEN, p -> { }));
+        assertThrows(NullPointerException.class, () -> parallelFilter.apply(NUMBERS, null, p -> { }));
+        assertThrows(NullPointerException.class, () -> parallelFilter.apply(NUMBERS, MULTIPLE_OF_SEVEN, null));
+    }
+
+    @Test
+    public void apply_belowThreshold_filterAppliedAsIs() {
+        List<Predicate<Integer>> applied = new ArrayList<>();
+        new ParallelFilter(NUMBERS.size() + 1).apply(NUMBERS, MULTIPLE_OF_SEVEN, applied::add);
+        assertSame(MULTIPLE_OF_SEVEN, applied.get(0));
+    }
+
+    @Test
+    public void apply_aboveThreshold_sameResultAsFilter() {
+        List<Integer> expected = NUMBERS.stream().filter(MULTIPLE_OF_SEVEN).toList();
+        List<List<Integer>> published = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new ParallelFilter(NUMBERS.size(), pool).apply(NUMBERS, MULTIPLE_OF_SEVEN, predicate ->
+                    published.add(NUMBERS.stream().filter(predicate).toList()));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(List.of(expected), published);
+    }
+
+    @Test
+    public void apply_aboveThreshold_elementsAddedLaterTestedAgainstFilter() {
+        List<Predicate<Integer>> applied = new ArrayList<>();
+        new ParallelFilter(0).apply(NUMBERS, MULTIPLE_OF_SEVEN, applied::add);
+        Predicate<Integer> predicate = applied.get(0);
+        assertTrue(predicate.test(70_000));
+        assertFalse(predicate.test(70_001));
+    }
+
+    @Test
+    public void apply_inBackground_publishedLaterThroughPublisher() throws Exception {
+        BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        ParallelFilter parallelFilter = new ParallelFilter(0, ForkJoinPool.commonPool(), () -> true, published::add);
+        List<Integer> numbers = new ArrayList<>(NUMBERS);
+        List<Predicate<Integer>> applied = new ArrayList<>();
+
+        parallelFilter.apply(numbers, MULTIPLE_OF_SEVEN, applied::add);
+        assertTrue(applied.isEmpty());
+        // elements added before the result is published are tested against the filter itself
+        numbers.add(70_000);
+        runPublished(parallelFilter, published);
+
+        assertEquals(1, applied.size());
+        assertEquals(numbers.stream().filter(MULTIPLE_OF_SEVEN).toList(),
+                numbers.stream().filter(applied.get(0)).toList());
+    }
+
+    @Test
+    public void apply_inBackgroundWhileAnotherPending_onlyLatestPublishedInOrder() throws Exception {
+        BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        ParallelFilter parallelFilter = new ParallelFilter(0, ForkJoinPool.commonPool(), () -> true, published::add);
+        List<Integer> otherNumbers = new ArrayList<>(NUMBERS);
+        List<String> applied = new ArrayList<>();
+
+        parallelFilter.apply(NUMBERS, MULTIPLE_OF_SEVEN, predicate -> applied.add("first"));
+        parallelFilter.apply(otherNumbers, MULTIPLE_OF_SEVEN, predicate -> applied.add("other"));
+        parallelFilter.apply(NUMBERS, MULTIPLE_OF_SEVEN.negate(), predicate -> applied.add("second"));
+        runPublished(parallelFilter, published);
+
+        assertEquals(List.of("other", "second"), applied);
+    }
+
+    /**
+     * Runs the tasks given to the publisher until no filter is pending.
+     */
+    private static void runPublished(ParallelFilter parallelFilter, BlockingQueue<Runnable> published)
+            throws InterruptedException {
+        while (parallelFilter.isPending()) {
+            Runnable task = published.poll(5, TimeUnit.SECONDS);
+            assertNotNull(task);
+            task.run();
+        }
+    }
+}
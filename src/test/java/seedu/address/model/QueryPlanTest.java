@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanTest {
+
+    private static final List<Integer> NUMBERS = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    private final AccessPath<Integer> evenPath = new AccessPath<>("even", 5, () -> Set.of(2, 4, 6, 8, 10));
+    private final AccessPath<Integer> smallPath = new AccessPath<>("small", 3, () -> Set.of(1, 2, 3));
+
+    @Test
+    public void plan_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> QueryPlan.plan(null, 0, Collections::emptyList, n -> true));
+        assertThrows(NullPointerException.class, () -> QueryPlan.<Integer>plan("numbers", 0, null, n -> true));
+    }
+
+    @Test
+    public void plan_severalAccessPaths_choosesSmallestEstimate() {
+        QueryPlan<Integer> plan = QueryPlan.plan("numbers", NUMBERS.size(), () ->
+                Arrays.asList(evenPath, smallPath), n -> n % 2 == 0);
+        assertEquals(Optional.of(smallPath), plan.getChosenPath());
+    }
+
+    @Test
+    public void plan_noSelectiveAccessPath_fullScan() {
+        AccessPath<Integer> everythingPath = new AccessPath<>("everything", NUMBERS.size(), () -> Set.copyOf(NUMBERS));
+        QueryPlan<Integer> plan = QueryPlan.plan("numbers", NUMBERS.size(), () ->
+                Collections.singletonList(everythingPath), n -> true);
+        assertFalse(plan.getChosenPath().isPresent());
+        assertTrue(plan.explain().startsWith("numbers: full scan"));
+    }
+
+    @Test
+    public void execute_chosenAccessPath_candidatesCheckedAgainstResidualFilter() {
+        QueryPlan<Integer> plan = QueryPlan.plan("numbers", NUMBERS.size(), () ->
+                Arrays.asList(evenPath, smallPath), n -> n % 2 == 0);
+        List<Predicate<Integer>> applied = new ArrayList<>();
+        List<Integer> matched = new ArrayList<>();
+        plan.execute(filter -> {
+            applied.add(filter);
+            NUMBERS.stream().filter(filter).forEach(matched::add);
+        });
+        assertEquals(Collections.singletonList(2), matched);
+
+        // elements tested after the refilter, such as replaced ones, are checked against the whole query
+        assertTrue(applied.get(0).test(12));
+        assertFalse(applied.get(0).test(1));
+
+        String explanation = plan.explain();
+        assertTrue(explanation.startsWith("numbers: small (~3), then residual filter on 3 of 10"));
+        assertTrue(explanation.contains("even (~5), small (~3)"));
+    }
+}
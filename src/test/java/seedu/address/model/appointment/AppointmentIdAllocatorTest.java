@@ -0,0 +1,61 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class AppointmentIdAllocatorTest {
+    private final AppointmentIdAllocator allocator = new AppointmentIdAllocator();
+
+    @Test
+    public void isValidCounter() {
+        // invalid counters
+        assertFalse(AppointmentIdAllocator.isValidCounter(null));
+        assertFalse(AppointmentIdAllocator.isValidCounter(""));
+        assertFalse(AppointmentIdAllocator.isValidCounter("-1"));
+        assertFalse(AppointmentIdAllocator.isValidCounter("ABC"));
+        assertFalse(AppointmentIdAllocator.isValidCounter("1234567890abc"));
+
+        // valid counters
+        assertTrue(AppointmentIdAllocator.isValidCounter("0"));
+        assertTrue(AppointmentIdAllocator.isValidCounter("zz"));
+        assertTrue(AppointmentIdAllocator.isValidCounter("000001a"));
+    }
+
+    @Test
+    public void allocate_freshAllocator_returnsPaddedBase36Ids() {
+        assertEquals(new AppointmentId("0000000"), allocator.allocate(id -> false));
+        allocator.setNext("z");
+        assertEquals(new AppointmentId("000000z"), allocator.allocate(id -> false));
+        assertEquals(new AppointmentId("0000010"), allocator.allocate(id -> false));
+        assertEquals("11", allocator.getNext());
+    }
+
+    @Test
+    public void allocate_usedIds_skipsUsedIds() {
+        Set<AppointmentId> used = Set.of(new AppointmentId("0000000"), new AppointmentId("0000001"));
+        assertEquals(new AppointmentId("0000002"), allocator.allocate(used::contains));
+    }
+
+    @Test
+    public void allocate_concurrentCallers_allIdsUnique() {
+        Set<AppointmentId> ids = ConcurrentHashMap.newKeySet();
+        List<Integer> callers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        callers.parallelStream().forEach(i -> ids.add(allocator.allocate(id -> false)));
+        assertEquals(callers.size(), ids.size());
+    }
+
+    @Test
+    public void setNext_invalidCounter_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> allocator.setNext("not valid"));
+    }
+}
@@ -46,4 +46,9 @@ public class AppointmentIdTest {
 
         assertEquals(dummy1, dummy2);
     }
+
+    @Test
+    public void hashCode_equalIds_sameHashCode() {
+        assertEquals(new AppointmentId("dummy").hashCode(), new AppointmentId("dummy").hashCode());
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.AppointmentUtil.appointmentAt;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentIntervalTreeTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2099, 10, 12, 0, 0);
+
+    private final AppointmentIntervalTree tree = new AppointmentIntervalTree();
+
+    @Test
+    public void findOverlapping_emptyTree_returnsEmptyList() {
+        assertTrue(tree.findOverlapping(DAY, DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_mixedIntervals_returnsOnlyOverlappingInStartOrder() {
+        Appointment morning = appointmentAt("12-10-2099 0900", "60");
+        Appointment noon = appointmentAt("12-10-2099 1200", "60");
+        Appointment longLunch = appointmentAt("12-10-2099 1130", "120");
+        Appointment evening = appointmentAt("12-10-2099 1800", "30");
+        Arrays.asList(evening, noon, morning, longLunch).forEach(tree::add);
+
+        assertEquals(Arrays.asList(longLunch, noon),
+                tree.findOverlapping(DAY.withHour(12).withMinute(30), DAY.withHour(13)));
+        assertEquals(Collections.singletonList(longLunch),
+                tree.findOverlapping(DAY.withHour(13), DAY.withHour(14)));
+
+        // ranges touching only at an endpoint do not overlap
+        assertTrue(tree.findOverlapping(DAY.withHour(10), DAY.withHour(11).withMinute(30)).isEmpty());
+        assertTrue(tree.findOverlapping(DAY.withHour(18).withMinute(30), DAY.withHour(20)).isEmpty());
+    }
+
+    @Test
+    public void remove_appointmentsWithSameInterval_removesOnlyGivenAppointment() {
+        Appointment first = new AppointmentBuilder().withId("a").build();
+        Appointment second = new AppointmentBuilder().withId("b").build();
+        tree.add(first);
+        tree.add(second);
+        assertTrue(tree.remove(first));
+        assertFalse(tree.remove(first));
+        assertEquals(Collections.singletonList(second), tree.findOverlapping(DAY, DAY.plusDays(1)));
+        assertTrue(tree.remove(second));
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_randomIntervals_matchesLinearScan() {
+        Random random = new Random(42);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String time = String.format("%02d-10-2099 %02d%02d", 1 + random.nextInt(28), random.nextInt(24),
+                    random.nextInt(60));
+            Appointment appointment = new AppointmentBuilder().withId(Integer.toString(i)).withDateTime(time)
+                    .withLength(Integer.toString(1 + random.nextInt(600))).build();
+            appointments.add(appointment);
+            tree.add(appointment);
+        }
+        for (int i = 0; i < 100; i++) {
+            tree.remove(appointments.remove(random.nextInt(appointments.size())));
+        }
+        assertEquals(appointments.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = DAY.withDayOfMonth(1).plusMinutes(random.nextInt(28 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(1000));
+            AppointmentDateTimeQuery query = new AppointmentDateTimeQuery(start, end);
+            List<Appointment> expected = appointments.stream().filter(query::filter)
+                    .sorted((a, b) -> a.getDateTime().dateTime.compareTo(b.getDateTime().dateTime))
+                    .collect(Collectors.toList());
+            List<Appointment> actual = tree.findOverlapping(start, end);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+}
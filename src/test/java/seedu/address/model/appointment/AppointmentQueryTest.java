@@ -1,7 +1,9 @@
 package seedu.address.model.appointment;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
 import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
@@ -9,6 +11,8 @@ import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,32 @@ public class AppointmentQueryTest {
                 .filter(MEETING_APPT));
     }
 
+    @Test
+    public void compile_queryChanged_recompiled() {
+        AppointmentQuery query = AppointmentQuery.build().setType(MEETING_APPT.getType());
+        Predicate<Appointment> compiled = query.compile();
+        assertTrue(compiled.test(MEETING_APPT));
+        assertSame(compiled, query.compile());
+
+        query.setType(new AppointmentType("dummy"));
+        assertFalse(query.compile().test(MEETING_APPT));
+        assertFalse(query.filter(MEETING_APPT));
+    }
+
+    @Test
+    public void compile_evaluatingAppointments_sameAsFilter() {
+        LocalDateTime start = MEETING_APPT.getDateTime().dateTime;
+        AppointmentQuery query = AppointmentQuery.build()
+                .setDateTime(new AppointmentDateTimeQuery(start.minusDays(1), start.plusDays(1)))
+                .setType(MEETING_APPT.getType())
+                .setStatus(MEETING_APPT.getStatus());
+        Predicate<Appointment> compiled = query.compile();
+        for (Appointment appointment : List.of(MEETING_APPT, DENTIST_APPT)) {
+            assertEquals(query.filter(appointment), compiled.test(appointment), appointment.toString());
+        }
+        assertTrue(compiled.test(MEETING_APPT));
+    }
+
     @Test
     public void equals() {
         AppointmentQuery first = AppointmentQuery.build();
@@ -0,0 +1,189 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.AppointmentUtil.appointmentAt;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentTimeColumnsTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2099, 10, 12, 0, 0);
+
+    private final AppointmentTimeColumns columns = new AppointmentTimeColumns();
+
+    @Test
+    public void epochMinute_partialMinute_roundedOutwards() {
+        LocalDateTime time = LocalDateTime.of(1970, 1, 1, 0, 1);
+        assertEquals(1, AppointmentTimeColumns.floorEpochMinute(time));
+        assertEquals(1, AppointmentTimeColumns.ceilEpochMinute(time));
+        assertEquals(1, AppointmentTimeColumns.floorEpochMinute(time.plusSeconds(59)));
+        assertEquals(2, AppointmentTimeColumns.ceilEpochMinute(time.plusSeconds(59)));
+        assertEquals(2, AppointmentTimeColumns.ceilEpochMinute(time.plusNanos(1)));
+        assertEquals(-1, AppointmentTimeColumns.floorEpochMinute(time.minusSeconds(61)));
+    }
+
+    @Test
+    public void findOverlapping_empty_returnsEmptyList() {
+        assertTrue(columns.findOverlapping(DAY, DAY.plusDays(1)).isEmpty());
+        assertEquals(0, columns.countOverlapping(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void findOverlapping_mixedIntervals_returnsOnlyOverlappingInStartOrder() {
+        Appointment morning = appointmentAt("12-10-2099 0900", "60");
+        Appointment noon = appointmentAt("12-10-2099 1200", "60");
+        Appointment longLunch = appointmentAt("12-10-2099 1130", "120");
+        Appointment evening = appointmentAt("12-10-2099 1800", "30");
+        Arrays.asList(evening, noon, morning, longLunch).forEach(columns::add);
+
+        assertEquals(Arrays.asList(longLunch, noon),
+                columns.findOverlapping(DAY.withHour(12).withMinute(30), DAY.withHour(13)));
+        assertEquals(Collections.singletonList(longLunch),
+                columns.findOverlapping(DAY.withHour(13), DAY.withHour(14)));
+        assertEquals(Arrays.asList(morning, longLunch, noon, evening),
+                columns.findOverlapping(LocalDateTime.MIN, LocalDateTime.MAX));
+
+        // ranges touching only at an endpoint do not overlap
+        assertTrue(columns.findOverlapping(DAY.withHour(10), DAY.withHour(11).withMinute(30)).isEmpty());
+        assertTrue(columns.findOverlapping(DAY.withHour(18).withMinute(30), DAY.withHour(20)).isEmpty());
+
+        // the end of a day is given to the second, and still includes an appointment in its last minute
+        Appointment lastMinute = appointmentAt("12-10-2099 2359", "30");
+        columns.add(lastMinute);
+        LocalDateTime endOfDay = DAY.withHour(23).withMinute(59).withSecond(59);
+        assertEquals(Collections.singletonList(lastMinute), columns.findOverlapping(endOfDay.minusHours(1), endOfDay));
+    }
+
+    @Test
+    public void addAll_unsortedAppointments_sortedByStartKeepingOrderOfTies() {
+        Appointment first = appointmentAt("12-10-2099 0900", "60");
+        Appointment tied = new AppointmentBuilder(first).withId("tied").withLength("30").build();
+        Appointment later = appointmentAt("12-10-2099 1200", "60");
+        columns.addAll(Arrays.asList(later, first, tied));
+        columns.add(appointmentAt("12-10-2099 0800", "30"));
+        assertEquals(Arrays.asList(first, tied, later), columns.findOverlapping(DAY.withHour(9), DAY.plusDays(1)));
+        assertEquals(4, columns.size());
+    }
+
+    @Test
+    public void remove_appointmentsWithSameStart_removesOnlyGivenAppointment() {
+        Appointment first = new AppointmentBuilder().withId("a").build();
+        Appointment second = new AppointmentBuilder().withId("b").build();
+        columns.add(first);
+        columns.add(second);
+        assertTrue(columns.remove(first));
+        assertFalse(columns.remove(first));
+        assertEquals(Collections.singletonList(second), columns.findOverlapping(LocalDateTime.MIN, LocalDateTime.MAX));
+        columns.removeAll(Collections.singletonList(second));
+        assertEquals(0, columns.size());
+    }
+
+    @Test
+    public void findStartingFrom_filter_firstMatchingAppointmentsFromTime() {
+        Appointment started = appointmentAt("12-10-2099 0900", "60");
+        Appointment first = appointmentAt("12-10-2099 1000", "60");
+        Appointment skipped = appointmentAt("12-10-2099 1100", "30");
+        Appointment second = appointmentAt("12-10-2099 1200", "60");
+        Appointment third = appointmentAt("12-10-2099 1300", "60");
+        columns.addAll(Arrays.asList(third, skipped, started, second, first));
+
+        assertEquals(Arrays.asList(first, second), columns.findStartingFrom(DAY.withHour(9).withMinute(30), 2,
+                appointment -> appointment != skipped));
+        assertEquals(Arrays.asList(first, skipped, second, third),
+                columns.findStartingFrom(DAY.withHour(10), 10, appointment -> true));
+        assertTrue(columns.findStartingFrom(DAY.withHour(13).withSecond(1), 10, appointment -> true).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_randomIntervals_matchesLinearScan() {
+        Random random = new Random(42);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String time = String.format("%02d-10-2099 %02d%02d", 1 + random.nextInt(28), random.nextInt(24),
+                    random.nextInt(60));
+            appointments.add(new AppointmentBuilder().withId(Integer.toString(i)).withDateTime(time)
+                    .withLength(Integer.toString(1 + random.nextInt(600))).build());
+        }
+        columns.addAll(appointments);
+        List<Appointment> removed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            removed.add(appointments.remove(random.nextInt(appointments.size())));
+        }
+        columns.removeAll(removed.subList(0, 50));
+        removed.subList(50, 100).forEach(columns::remove);
+        assertEquals(appointments.size(), columns.size());
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = DAY.withDayOfMonth(1).plusSeconds(random.nextInt(28 * 24 * 60 * 60));
+            LocalDateTime end = start.plusSeconds(1 + random.nextInt(60 * 1000));
+            AppointmentDateTimeQuery query = new AppointmentDateTimeQuery(start, end);
+            List<Appointment> expected = appointments.stream()
+                    .filter(appointment -> start.isBefore(AppointmentIntervalTree.endOf(appointment))
+                            && appointment.getDateTime().dateTime.isBefore(end))
+                    .collect(Collectors.toList());
+            List<Appointment> actual = columns.findOverlapping(start, end);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            assertEquals(expected.size(), columns.countOverlapping(start, end));
+            assertEquals(expected, appointments.stream().filter(query::filter).collect(Collectors.toList()));
+            for (int j = 1; j < actual.size(); j++) {
+                assertFalse(actual.get(j).getDateTime().dateTime.isBefore(actual.get(j - 1).getDateTime().dateTime));
+            }
+        }
+    }
+
+    @Test
+    public void findConflicts_randomIntervals_matchesPairwiseCheck() {
+        Random random = new Random(7);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String time = String.format("%02d-10-2099 %02d%02d", 1 + random.nextInt(5), random.nextInt(24),
+                    random.nextInt(60));
+            appointments.add(new AppointmentBuilder().withId(Integer.toString(i)).withDateTime(time)
+                    .withLength(Integer.toString(1 + random.nextInt(180)))
+                    .withLocation(random.nextBoolean() ? "" : "Room " + random.nextInt(3)).build());
+        }
+        columns.addAll(appointments);
+
+        Predicate<Appointment> isLong = appointment -> AppointmentTimeColumns.lengthInMinutes(appointment) > 30;
+        Function<Appointment, Object> location = appointment ->
+                appointment.getLocation().value.isEmpty() ? null : appointment.getLocation();
+        List<AppointmentConflict> conflicts = columns.findConflicts(isLong, location);
+
+        int expectedCount = 0;
+        for (int i = 0; i < appointments.size(); i++) {
+            for (int j = i + 1; j < appointments.size(); j++) {
+                Appointment first = appointments.get(i);
+                Appointment second = appointments.get(j);
+                if (isLong.test(first) && isLong.test(second) && location.apply(first) != null
+                        && location.apply(first).equals(location.apply(second))
+                        && first.getDateTime().dateTime.isBefore(AppointmentIntervalTree.endOf(second))
+                        && second.getDateTime().dateTime.isBefore(AppointmentIntervalTree.endOf(first))) {
+                    expectedCount++;
+                }
+            }
+        }
+        assertEquals(expectedCount, conflicts.size());
+        assertTrue(expectedCount > 0);
+        for (AppointmentConflict conflict : conflicts) {
+            assertEquals(conflict.getFirst().getLocation(), conflict.getSecond().getLocation());
+            assertFalse(conflict.getSecond().getDateTime().dateTime
+                    .isBefore(conflict.getFirst().getDateTime().dateTime));
+            assertTrue(conflict.getSecond().getDateTime().dateTime.isBefore(
+                    AppointmentIntervalTree.endOf(conflict.getFirst())));
+        }
+    }
+}
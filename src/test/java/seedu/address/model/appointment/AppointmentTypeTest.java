@@ -1,6 +1,8 @@
 package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,10 @@ public class AppointmentTypeTest {
         AppointmentType differentType = new AppointmentType("tech");
         assertFalse(type.equals(differentType));
     }
+
+    @Test
+    public void of_equalTypes_returnsSameInstance() {
+        assertSame(AppointmentType.of("health"), AppointmentType.of(" health "));
+        assertNotSame(AppointmentType.of("health"), AppointmentType.of("tech"));
+    }
 }
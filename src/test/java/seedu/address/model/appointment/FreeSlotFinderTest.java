@@ -0,0 +1,75 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.AppointmentUtil.appointmentAt;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class FreeSlotFinderTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2099, 10, 12, 0, 0);
+
+    private final FreeSlotFinder finder =
+            new FreeSlotFinder(Duration.ofMinutes(60), LocalTime.of(9, 0), LocalTime.of(17, 0));
+
+    @Test
+    public void find_noAppointments_wholeWorkingDays() {
+        assertEquals(Arrays.asList(slot(DAY.withHour(9), DAY.withHour(17)),
+                slot(DAY.plusDays(1).withHour(9), DAY.plusDays(1).withHour(17))),
+                finder.find(List.of(), DAY, DAY.plusDays(1).withHour(23), 5));
+    }
+
+    @Test
+    public void find_overlappingAppointments_mergedAndShortGapsSkipped() {
+        List<Appointment> busy = Arrays.asList(
+                appointmentAt("12-10-2099 0800", "90"),
+                appointmentAt("12-10-2099 1100", "120"),
+                appointmentAt("12-10-2099 1200", "30"),
+                appointmentAt("12-10-2099 1230", "60"),
+                appointmentAt("12-10-2099 1400", "150"));
+
+        // 0930-1100 is free, 1100-1330 is busy and 1330-1400 is too short, 1630-1700 as well
+        assertEquals(List.of(slot(DAY.withHour(9).withMinute(30), DAY.withHour(11))),
+                finder.find(busy, DAY, DAY.withHour(23), 5));
+    }
+
+    @Test
+    public void find_appointmentAcrossMidnight_busyOnBothDays() {
+        List<Appointment> busy = List.of(appointmentAt("12-10-2099 1600", "1200"));
+        LocalDateTime nextDay = DAY.plusDays(1);
+        assertEquals(Arrays.asList(slot(DAY.withHour(9), DAY.withHour(16)),
+                slot(nextDay.withHour(12), nextDay.withHour(17))),
+                finder.find(busy, DAY, nextDay.withHour(23), 5));
+    }
+
+    @Test
+    public void find_rangeWithinDay_clippedToRange() {
+        List<Appointment> busy = List.of(appointmentAt("12-10-2099 1200", "60"));
+        assertEquals(Arrays.asList(slot(DAY.withHour(10), DAY.withHour(12)),
+                slot(DAY.withHour(13), DAY.withHour(15))),
+                finder.find(busy, DAY.withHour(10), DAY.withHour(15), 5));
+        assertTrue(finder.find(busy, DAY.withHour(16).withMinute(30), DAY.withHour(23), 5).isEmpty());
+    }
+
+    @Test
+    public void find_count_earliestSlotsReturned() {
+        List<FreeSlot> slots = finder.find(List.of(), DAY, DAY.plusDays(30), 3);
+        assertEquals(3, slots.size());
+        assertEquals(slot(DAY.plusDays(2).withHour(9), DAY.plusDays(2).withHour(17)), slots.get(2));
+    }
+
+    @Test
+    public void toString_slot_formattedAsDateTimes() {
+        assertEquals("12-10-2099 0900 to 12-10-2099 1700", slot(DAY.withHour(9), DAY.withHour(17)).toString());
+    }
+
+    private static FreeSlot slot(LocalDateTime start, LocalDateTime end) {
+        return new FreeSlot(start, end);
+    }
+}
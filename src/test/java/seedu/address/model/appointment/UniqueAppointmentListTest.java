@@ -2,12 +2,20 @@ package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
+import static seedu.address.testutil.TypicalPersons.DUMMY_APPT;
 import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,9 +23,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.AppointmentBuilder;
 
 public class UniqueAppointmentListTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+
     private final UniqueAppointmentList uniqueAppointmentList = new UniqueAppointmentList();
 
     @Test
@@ -93,6 +105,19 @@ public class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void setAppointment_afterEarlierAppointmentRemoved_editedInPlace() {
+        uniqueAppointmentList.add(DENTIST_APPT);
+        uniqueAppointmentList.add(MEETING_APPT);
+        uniqueAppointmentList.add(DUMMY_APPT);
+        uniqueAppointmentList.remove(DENTIST_APPT);
+        Appointment editedDummyAppt = new AppointmentBuilder(DUMMY_APPT).withMessage("Moved").build();
+        uniqueAppointmentList.setAppointment(DUMMY_APPT, editedDummyAppt);
+        assertEquals(Arrays.asList(MEETING_APPT, editedDummyAppt),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAppointmentList.contains(DUMMY_APPT));
+    }
+
     @Test
     public void setAppointment_editedAppointmentHasNonUniqueIdentity_throwsDuplicateAppointmentException() {
         uniqueAppointmentList.add(DENTIST_APPT);
@@ -119,6 +144,23 @@ public class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void remove_sameIdentityButDifferentDetails_throwsAppointmentNotFoundException() {
+        uniqueAppointmentList.add(DENTIST_APPT);
+        Appointment edited = new AppointmentBuilder(DENTIST_APPT).withMessage("Rescheduled").build();
+        assertThrows(AppointmentNotFoundException.class, () -> uniqueAppointmentList.remove(edited));
+    }
+
+    @Test
+    public void remove_earlierAppointment_laterAppointmentsStillFound() {
+        uniqueAppointmentList.add(DENTIST_APPT);
+        uniqueAppointmentList.add(MEETING_APPT);
+        uniqueAppointmentList.add(DUMMY_APPT);
+        uniqueAppointmentList.remove(DENTIST_APPT);
+        uniqueAppointmentList.remove(DUMMY_APPT);
+        assertEquals(List.of(MEETING_APPT), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setAppointments_nullUniqueAppointmentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAppointmentList
@@ -156,12 +198,192 @@ public class UniqueAppointmentListTest {
             .setAppointments(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void setAppointments_listWithDuplicateAppointments_reportsEveryDuplicate() {
+        // a different id does not make a different appointment
+        Appointment dentistApptCopy = new AppointmentBuilder(DENTIST_APPT).withId("9").build();
+        List<Appointment> listWithDuplicateAppointments = Arrays.asList(MEETING_APPT, DENTIST_APPT, dentistApptCopy);
+        String expectedMessage = "Operation would result in duplicate appointments: " + dentistApptCopy
+            + " at positions 2 and 3";
+        assertThrows(DuplicateAppointmentException.class, expectedMessage, () -> uniqueAppointmentList
+            .setAppointments(listWithDuplicateAppointments));
+    }
+
+    @Test
+    public void contains_sameAppointmentWithDifferentId_returnsTrue() {
+        uniqueAppointmentList.add(DENTIST_APPT);
+        assertTrue(uniqueAppointmentList.contains(new AppointmentBuilder(DENTIST_APPT).withId("9").build()));
+        uniqueAppointmentList.setAppointments(Arrays.asList(MEETING_APPT, DENTIST_APPT));
+        uniqueAppointmentList.setAppointments(Arrays.asList(DENTIST_APPT, MEETING_APPT));
+        assertTrue(uniqueAppointmentList.contains(DENTIST_APPT));
+        assertTrue(uniqueAppointmentList.contains(MEETING_APPT));
+        uniqueAppointmentList.remove(DENTIST_APPT);
+        assertFalse(uniqueAppointmentList.contains(DENTIST_APPT));
+    }
+
+    @Test
+    public void load_manyAppointments_sameListAtOnceAndOneAtATime() {
+        List<Appointment> appointments = new ArrayList<>();
+        LocalDateTime start = DENTIST_APPT.getDateTime().dateTime;
+        for (int i = 0; i < 1_000; i++) {
+            appointments.add(new AppointmentBuilder(DENTIST_APPT)
+                .withId(Integer.toString(i, 36))
+                .withName("Client " + (i % 100))
+                .withDateTime(start.plusMinutes(30L * i).format(DATE_TIME_FORMAT))
+                .build());
+        }
+
+        UniqueAppointmentList loadedAtOnce = new UniqueAppointmentList();
+        loadedAtOnce.setAppointments(appointments);
+        UniqueAppointmentList loadedOneAtATime = new UniqueAppointmentList();
+        appointments.forEach(loadedOneAtATime::add);
+        assertEquals(appointments, loadedAtOnce.asUnmodifiableObservableList());
+        assertEquals(loadedAtOnce, loadedOneAtATime);
+        appointments.forEach(appointment -> assertTrue(loadedAtOnce.contains(appointment)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
             uniqueAppointmentList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getClashedAppointment_overlappingConfirmedAppointment_returnsAppointment() {
+        Appointment confirmed = new AppointmentBuilder().withId("a").withStatus("confirmed").build();
+        uniqueAppointmentList.add(confirmed);
+        Appointment overlapping = new AppointmentBuilder().withId("b").withDateTime("12-10-2099 1500")
+            .withStatus("confirmed").build();
+        assertEquals(confirmed, uniqueAppointmentList.getClashedAppointment(overlapping));
+    }
+
+    @Test
+    public void getClashedAppointment_noClash_returnsNull() {
+        Appointment confirmed = new AppointmentBuilder().withId("a").withStatus("confirmed").build();
+        uniqueAppointmentList.add(confirmed);
+        uniqueAppointmentList.add(new AppointmentBuilder().withId("c").withDateTime("12-10-2099 1500").build());
+        AppointmentBuilder candidate = new AppointmentBuilder().withId("b").withStatus("confirmed");
+
+        // same appointment id
+        assertNull(uniqueAppointmentList.getClashedAppointment(new AppointmentBuilder(confirmed).build()));
+
+        // touching end time
+        assertNull(uniqueAppointmentList.getClashedAppointment(candidate.withDateTime("12-10-2099 1600").build()));
+
+        // different client
+        assertNull(uniqueAppointmentList.getClashedAppointment(candidate.withDateTime("12-10-2099 1500")
+            .withName("Bob Choo").build()));
+
+        // not confirmed
+        assertNull(uniqueAppointmentList.getClashedAppointment(new AppointmentBuilder().withId("b").build()));
+    }
+
+    @Test
+    public void getClashedAppointment_afterRemoveAndSet_indexUpdated() {
+        Appointment confirmed = new AppointmentBuilder().withId("a").withStatus("confirmed").build();
+        Appointment overlapping = new AppointmentBuilder().withId("b").withDateTime("12-10-2099 1500")
+            .withStatus("confirmed").build();
+        uniqueAppointmentList.add(confirmed);
+        uniqueAppointmentList.remove(confirmed);
+        assertNull(uniqueAppointmentList.getClashedAppointment(overlapping));
+
+        uniqueAppointmentList.add(confirmed);
+        Appointment cancelled = new AppointmentBuilder(confirmed).withStatus("cancelled").build();
+        uniqueAppointmentList.setAppointment(confirmed, cancelled);
+        assertNull(uniqueAppointmentList.getClashedAppointment(overlapping));
+
+        uniqueAppointmentList.setAppointments(Collections.singletonList(confirmed));
+        assertEquals(confirmed, uniqueAppointmentList.getClashedAppointment(overlapping));
+    }
+
+    @Test
+    public void getAppointmentsOf_listChanges_viewFollowsChanges() {
+        List<Appointment> bensonAppointments = uniqueAppointmentList.getAppointmentsOf(DENTIST_APPT.getClientName());
+        uniqueAppointmentList.add(DENTIST_APPT);
+        uniqueAppointmentList.add(MEETING_APPT);
+        assertEquals(Collections.singletonList(DENTIST_APPT), bensonAppointments);
+
+        Appointment editedDentistAppt = new AppointmentBuilder(DENTIST_APPT).withLength("30").build();
+        uniqueAppointmentList.setAppointment(DENTIST_APPT, editedDentistAppt);
+        assertEquals(Collections.singletonList(editedDentistAppt), bensonAppointments);
+
+        uniqueAppointmentList.setAppointments(Collections.singletonList(MEETING_APPT));
+        assertTrue(bensonAppointments.isEmpty());
+        assertEquals(Collections.singletonList(MEETING_APPT),
+            uniqueAppointmentList.getAppointmentsOf(MEETING_APPT.getClientName()));
+    }
+
+    @Test
+    public void releaseAppointmentsOf_noAppointmentsLeft_listDropped() {
+        Name bensonName = DENTIST_APPT.getClientName();
+        List<Appointment> bensonAppointments = uniqueAppointmentList.getAppointmentsOf(bensonName);
+        uniqueAppointmentList.add(DENTIST_APPT);
+        uniqueAppointmentList.releaseAppointmentsOf(bensonName);
+        assertSame(bensonAppointments, uniqueAppointmentList.getAppointmentsOf(bensonName));
+
+        uniqueAppointmentList.removeAppointmentsOf(bensonName);
+        uniqueAppointmentList.releaseAppointmentsOf(bensonName);
+        assertNotSame(bensonAppointments, uniqueAppointmentList.getAppointmentsOf(bensonName));
+        assertTrue(uniqueAppointmentList.getAppointmentsOf(bensonName).isEmpty());
+    }
+
+    @Test
+    public void getPositionsWithStatusAndType_listChanges_followsList() {
+        Appointment confirmedDentistAppt = new AppointmentBuilder(DENTIST_APPT).withStatus("confirmed").build();
+        uniqueAppointmentList.setAppointments(Arrays.asList(DUMMY_APPT, DENTIST_APPT, MEETING_APPT));
+        uniqueAppointmentList.remove(DUMMY_APPT);
+        uniqueAppointmentList.setAppointment(DENTIST_APPT, confirmedDentistAppt);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        assertEquals(expected, uniqueAppointmentList.getPositionsWithStatus(AppointmentStatusType.CONFIRMED));
+        assertEquals(expected, uniqueAppointmentList.getPositionsWithType(DENTIST_APPT.getType()));
+        expected.flip(0, 2);
+        assertEquals(expected, uniqueAppointmentList.getPositionsWithStatus(AppointmentStatusType.PLANNED));
+        assertTrue(uniqueAppointmentList.getPositionsWithType(DUMMY_APPT.getType()).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsOverlapping_listChanges_followsList() {
+        LocalDateTime start = DENTIST_APPT.getDateTime().dateTime;
+        uniqueAppointmentList.setAppointments(Arrays.asList(DENTIST_APPT, MEETING_APPT));
+        assertEquals(Collections.singletonList(DENTIST_APPT),
+            uniqueAppointmentList.getAppointmentsOverlapping(start.plusMinutes(59), start.plusHours(2)));
+
+        Appointment shortDentistAppt = new AppointmentBuilder(DENTIST_APPT).withLength("30").build();
+        uniqueAppointmentList.setAppointment(DENTIST_APPT, shortDentistAppt);
+        assertTrue(uniqueAppointmentList.getAppointmentsOverlapping(start.plusMinutes(59), start.plusHours(2))
+            .isEmpty());
+        assertEquals(Arrays.asList(shortDentistAppt, MEETING_APPT),
+            uniqueAppointmentList.getAppointmentsOverlapping(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void getUpcomingAppointmentsOf_listChanges_followsList() {
+        AppointmentBuilder benson = new AppointmentBuilder().withName("Benson Meier");
+        Appointment later = benson.withId("b1").withDateTime("03-01-3099 0900").build();
+        Appointment earlier = benson.withId("b2").withDateTime("02-01-3099 0900").build();
+        Appointment past = benson.withId("b3").withDateTime("01-01-2000 0900").build();
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Name name = later.getClientName();
+        uniqueAppointmentList.setAppointments(Arrays.asList(later, past, earlier));
+        assertEquals(Arrays.asList(earlier, later), uniqueAppointmentList.getUpcomingAppointmentsOf(name, from, 5));
+        assertEquals(Collections.singletonList(earlier),
+            uniqueAppointmentList.getUpcomingAppointmentsOf(name, from, 1));
+
+        Appointment cancelled = new AppointmentBuilder(earlier).withStatus("cancelled").build();
+        uniqueAppointmentList.setAppointment(earlier, cancelled);
+        assertEquals(Collections.singletonList(later), uniqueAppointmentList.getUpcomingAppointmentsOf(name, from, 5));
+
+        Appointment rescheduled = new AppointmentBuilder(later).withDateTime("01-01-2024 0000").build();
+        uniqueAppointmentList.setAppointment(later, rescheduled);
+        assertEquals(Collections.singletonList(rescheduled),
+            uniqueAppointmentList.getUpcomingAppointmentsOf(name, from, 5));
+
+        uniqueAppointmentList.remove(rescheduled);
+        assertTrue(uniqueAppointmentList.getUpcomingAppointmentsOf(name, from, 5).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueAppointmentList.asUnmodifiableObservableList().toString(),
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void findCandidates_keywordShorterThanTrigram_returnsEmptyOptional() {
+        index.add(new Name("Alice Pauline"));
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+    }
+
+    @Test
+    public void findCandidates_unknownTrigram_returnsEmptySet() {
+        index.add(new Name("Alice Pauline"));
+        assertEquals(Optional.of(Collections.emptySet()), index.findCandidates("xyz"));
+    }
+
+    @Test
+    public void findCandidates_mixedCase_ignoresCase() {
+        Name alice = new Name("Alice Pauline");
+        index.add(alice);
+        index.add(new Name("Benson Meier"));
+        assertEquals(Optional.of(Set.of(alice)), index.findCandidates("PAUL"));
+    }
+
+    @Test
+    public void remove_indexedName_noLongerCandidate() {
+        Name alice = new Name("Alice Pauline");
+        index.add(alice);
+        index.remove(alice);
+        assertEquals(Optional.of(Collections.emptySet()), index.findCandidates("alice"));
+    }
+
+    @Test
+    public void findCandidates_randomNames_includesEveryContainingName() {
+        Random random = new Random(7);
+        Name[] names = new Name[200];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new Name(randomWord(random, 4 + random.nextInt(8)) + " " + randomWord(random, 5));
+            index.add(names[i]);
+        }
+        for (int i = 0; i < 100; i++) {
+            String keyword = randomWord(random, 3 + random.nextInt(2));
+            Set<Name> candidates = index.findCandidates(keyword).get();
+            for (Name name : names) {
+                if (name.fullName.toLowerCase().contains(keyword)) {
+                    assertTrue(candidates.contains(name));
+                }
+            }
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -1,14 +1,23 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.rank.Rank;
+import seedu.address.model.tag.Tag;
+
 public class PersonQueryTest {
 
     @Test
@@ -43,6 +52,16 @@ public class PersonQueryTest {
         assertFalse(query.filter(BOB));
     }
 
+    @Test
+    public void filter_byDifferentlyWrittenPhoneAndEmail_matches() {
+        PersonQuery query = PersonQuery
+            .build()
+            .setPhone(new Phone("9435 1253"))
+            .setEmail(new Email("Alice@Example.com"));
+        assertTrue(query.filter(ALICE));
+        assertFalse(query.filter(BOB));
+    }
+
     @Test
     public void filter_bySingleTag() {
         PersonQuery query = PersonQuery
@@ -93,6 +112,30 @@ public class PersonQueryTest {
         assertFalse(query.filter(BOB));
     }
 
+    @Test
+    public void compile_queryChanged_recompiled() {
+        PersonQuery query = PersonQuery.build().setName(new String[]{"PAULINE"});
+        Predicate<Person> compiled = query.compile();
+        assertTrue(compiled.test(ALICE));
+        assertSame(compiled, query.compile());
+
+        query.setPhone(BOB.getPhone());
+        assertFalse(query.compile().test(ALICE));
+        assertFalse(query.filter(ALICE));
+    }
+
+    @Test
+    public void compile_evaluatingPersons_sameAsFilter() {
+        PersonQuery query = PersonQuery.build()
+                .setName(new String[]{"meier", "kurz", "PAULINE"})
+                .setTags(Set.of(new Tag("friends")))
+                .setRank(new Rank("stable"));
+        Predicate<Person> compiled = query.compile();
+        for (Person person : getTypicalPersons()) {
+            assertEquals(query.filter(person), compiled.test(person), person.toString());
+        }
+    }
+
     @Test
     public void equals() {
         PersonQuery aliceQuery = PersonQuery.build();
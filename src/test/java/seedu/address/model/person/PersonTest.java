@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -11,14 +12,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_RANK_URGENT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.DENTIST_APPT;
 import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -29,6 +37,13 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void hasTags() {
+        assertTrue(BENSON.hasTags(Set.of(new Tag("friends"), new Tag("owesMoney"))));
+        assertTrue(BENSON.hasTags(Collections.emptySet()));
+        assertFalse(ALICE.hasTags(Set.of(new Tag("friends"), new Tag("owesMoney"))));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -98,21 +113,31 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withRank(VALID_RANK_URGENT).build();
         assertFalse(ALICE.equals(editedAlice));
 
-        // different appointments -> returns false
-        // detailed equality check is in {@code AppointmentTest}
+        // different appointments -> returns true, appointments belong to the address book
         editedAlice = new PersonBuilder(ALICE).withAppointments(DENTIST_APPT).build();
-        assertFalse(ALICE.equals(editedAlice));
+        assertTrue(ALICE.equals(editedAlice));
 
-        // one appointment is a subset of another -> returns false
+        // one appointment is a subset of another -> returns true
         editedAlice = new PersonBuilder(ALICE).withAppointments(MEETING_APPT, DENTIST_APPT).build();
-        assertFalse(ALICE.equals(editedAlice));
+        assertTrue(ALICE.equals(editedAlice));
+    }
 
-        // removing an appointment from a person -> returns false
-        Person dentistApptAlice = new PersonBuilder(ALICE).withAppointments(DENTIST_APPT).build();
-        Person noDentistApptAlice =
-                new PersonBuilder(ALICE).withAppointments(DENTIST_APPT).build()
-                        .withoutAppointments(List.of(DENTIST_APPT));
-        assertFalse(dentistApptAlice.equals(noDentistApptAlice));
+    @Test
+    public void withAppointmentsView_changesToView_reflectedInAppointments() {
+        ObservableList<Appointment> backingList = FXCollections.observableArrayList();
+        Person alice = ALICE.withAppointmentsView(FXCollections.unmodifiableObservableList(backingList));
+        assertTrue(alice.getAppointments().isEmpty());
+        assertEquals(ALICE, alice);
+
+        backingList.add(DENTIST_APPT);
+        assertEquals(List.of(DENTIST_APPT), alice.getAppointments());
+    }
+
+    @Test
+    public void withAppointmentsView_tagsSharedNotCopied() {
+        Person alice = ALICE.withAppointmentsView(FXCollections.emptyObservableList());
+        assertSame(ALICE.getTags(), alice.getTags());
+        assertSame(alice.getTags(), alice.getTags());
     }
 
     @Test
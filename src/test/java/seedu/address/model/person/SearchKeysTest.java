@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchKeysTest {
+
+    @Test
+    public void normalize_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SearchKeys.normalizeName(null));
+        assertThrows(NullPointerException.class, () -> SearchKeys.normalizePhone(null));
+        assertThrows(NullPointerException.class, () -> SearchKeys.normalizeEmail(null));
+    }
+
+    @Test
+    public void normalize_validInputs_correctResult() {
+        assertEquals("alice pauline", SearchKeys.normalizeName("  Alice \t PAULINE "));
+        assertEquals("6591234567", SearchKeys.normalizePhone("+65 9123 4567"));
+        assertEquals("alice@example.com", SearchKeys.normalizeEmail("Alice@Example.COM"));
+    }
+
+    @Test
+    public void getSearchKeys_person_normalisedFields() {
+        Person person = new PersonBuilder().withName("Alice  Pauline").withPhone("+65 9435 1253")
+                .withEmail("Alice@Example.com").build();
+        SearchKeys keys = person.getSearchKeys();
+        assertEquals("alice pauline", keys.getName());
+        assertEquals(List.of("alice", "pauline"), keys.getNameTokens());
+        assertEquals("6594351253", keys.getPhone());
+        assertEquals("alice@example.com", keys.getEmail());
+    }
+
+    @Test
+    public void getSearchKeys_calledAgain_sameKeysReturned() {
+        Person person = new PersonBuilder().build();
+        SearchKeys keys = person.getSearchKeys();
+        assertSame(keys, person.getSearchKeys());
+        assertSame(keys, person.withAppointmentsView(FXCollections.observableArrayList()).getSearchKeys());
+    }
+}
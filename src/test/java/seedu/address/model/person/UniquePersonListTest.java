@@ -2,16 +2,21 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -109,6 +114,13 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +139,102 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOtherPersons_otherPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getName()));
+        assertEquals(CARL, uniquePersonList.getPerson(CARL.getName()));
+        uniquePersonList.remove(CARL);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPerson_nameNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPerson(BOB.getName()));
+    }
+
+    @Test
+    public void getPerson_afterSetPersons_returnsReplacementPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB, ALICE));
+        assertEquals(ALICE, uniquePersonList.getPerson(ALICE.getName()));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getName()));
+    }
+
+    @Test
+    public void getPersonsWithNormalizedName_differentCaseAndSpacing_personsFound() {
+        Person lowerCaseAlice = new PersonBuilder(BOB).withName("alice pauline").build();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(lowerCaseAlice);
+        assertEquals(Arrays.asList(ALICE, lowerCaseAlice),
+                uniquePersonList.getPersonsWithNormalizedName(new Name(" ALICE   Pauline")));
+        assertTrue(uniquePersonList.getPersonsWithNormalizedName(new Name("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNormalizedName_wordsTooShortForIndex_personsFound() {
+        Person shortNamed = new PersonBuilder(BOB).withName("Al Li").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(shortNamed);
+        assertEquals(Collections.singletonList(shortNamed),
+                uniquePersonList.getPersonsWithNormalizedName(new Name("al li")));
+    }
+
+    @Test
+    public void getNameCandidates_keywordTooShort_returnsEmptyOptional() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getNameCandidates(Arrays.asList("alice", "al")));
+    }
+
+    @Test
+    public void getNameCandidates_afterEditsAndRemovals_followsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(CARL);
+        Person editedBob = new PersonBuilder(BOB).withName("Bob Kurz").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Optional.of(Set.of(editedBob.getName())),
+                uniquePersonList.getNameCandidates(Collections.singletonList("kurz")));
+        assertEquals(Optional.of(Set.of(ALICE.getName(), editedBob.getName())),
+                uniquePersonList.getNameCandidates(Arrays.asList("ALICE", "kurz")));
+    }
+
+    @Test
+    public void getNamesWithPhoneAndEmail_afterEdit_followsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(ALICE.getName(), BOB.getName()), uniquePersonList.getNamesWithPhone(BOB.getPhone()));
+        assertTrue(uniquePersonList.getNamesWithPhone(ALICE.getPhone()).isEmpty());
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getNamesWithEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void identityOperations_manyPersons_everyPersonFoundAndReplaced() {
+        List<Person> persons = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            editedPersons.add(new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build());
+        }
+
+        persons.forEach(uniquePersonList::add);
+        for (Person person : persons) {
+            assertTrue(uniquePersonList.contains(person));
+            assertEquals(person, uniquePersonList.getPerson(person.getName()));
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            uniquePersonList.setPerson(persons.get(i), editedPersons.get(i));
+        }
+        assertEquals(editedPersons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +270,17 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicate() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice, BOB);
+        String expectedMessage = "Operation would result in duplicate persons: " + ALICE.getName()
+                + " at positions 1 and 3; " + BOB.getName() + " at positions 2 and 4";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,6 @@
 package seedu.address.model.rank;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -34,4 +35,10 @@ public class RankTest {
         assertTrue(Rank.isValidRankName("vuLNerabLE"));
         assertTrue(Rank.isValidRankName("UrgeNT"));
     }
+
+    @Test
+    public void of_equalRankNames_returnsSameInstance() {
+        assertSame(Rank.of("urgent"), Rank.of(" URGENT "));
+        assertThrows(IllegalArgumentException.class, () -> Rank.of("high"));
+    }
 }
@@ -0,0 +1,127 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class BitmapIndexTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList();
+    private final BitmapIndex<Character, String> index = BitmapIndex.of(list, word -> word.charAt(0));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BitmapIndex.of(null, word -> word));
+        assertThrows(NullPointerException.class, () -> BitmapIndex.<Character, String>of(list, null));
+    }
+
+    @Test
+    public void constructor_nonEmptyList_indexesExistingElements() {
+        ObservableList<String> words = FXCollections.observableArrayList("apple", "banana", "avocado");
+        BitmapIndex<Character, String> wordIndex = BitmapIndex.of(words, word -> word.charAt(0));
+        assertEquals(bitSetOf(0, 2), wordIndex.get('a'));
+    }
+
+    @Test
+    public void get_unknownKey_returnsEmptyBitSet() {
+        list.add("apple");
+        assertEquals(new BitSet(), index.get('z'));
+    }
+
+    @Test
+    public void get_modifyResult_indexUnchanged() {
+        list.add("apple");
+        index.get('a').clear();
+        assertEquals(bitSetOf(0), index.get('a'));
+    }
+
+    @Test
+    public void get_removeFromMiddle_positionsShifted() {
+        list.setAll(Arrays.asList("apple", "banana", "avocado", "blueberry"));
+        list.remove(1);
+        assertEquals(bitSetOf(0, 1), index.get('a'));
+        assertEquals(bitSetOf(2), index.get('b'));
+    }
+
+    @Test
+    public void getAll_multipleKeysPerElement_returnsElementsWithEveryKey() {
+        ObservableList<String> words = FXCollections.observableArrayList("abc", "ab", "bc", "cab");
+        BitmapIndex<Character, String> letterIndex = BitmapIndex.ofKeys(words, word ->
+                word.chars().mapToObj(letter -> (char) letter).collect(Collectors.toSet()));
+        assertEquals(bitSetOf(0, 1, 3), letterIndex.getAll(Arrays.asList('a', 'b')));
+        assertEquals(bitSetOf(0, 3), letterIndex.getAll(Arrays.asList('c', 'a', 'b')));
+        assertEquals(new BitSet(), letterIndex.getAll(Arrays.asList('a', 'z')));
+        assertEquals(bitSetOf(0, 1, 2, 3), letterIndex.getAll(Collections.emptyList()));
+
+        words.remove(0);
+        assertEquals(bitSetOf(0, 2), letterIndex.getAll(Arrays.asList('a', 'b')));
+    }
+
+    @Test
+    public void get_randomModifications_matchesScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            String word = String.valueOf((char) ('a' + random.nextInt(4)));
+            int operation = random.nextInt(4);
+            if (operation == 0 || list.isEmpty()) {
+                list.add(random.nextInt(list.size() + 1), word);
+            } else if (operation == 1) {
+                list.remove(random.nextInt(list.size()));
+            } else if (operation == 2) {
+                list.set(random.nextInt(list.size()), word);
+            } else {
+                list.removeAll(word);
+            }
+            for (char key = 'a'; key < 'e'; key++) {
+                assertEquals(scan(key), index.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void get_rangesAddedAndRemovedAcrossWords_matchesScan() {
+        Random random = new Random(8);
+        for (int i = 0; i < 200; i++) {
+            list.add(String.valueOf((char) ('a' + random.nextInt(4))));
+        }
+        for (int i = 0; i < 100; i++) {
+            int position = random.nextInt(list.size() + 1);
+            int length = random.nextInt(150);
+            if (random.nextBoolean() || list.size() < length) {
+                list.addAll(position, Collections.nCopies(length, String.valueOf((char) ('a' + random.nextInt(4)))));
+            } else {
+                int from = Math.min(position, list.size() - length);
+                list.subList(from, from + length).clear();
+            }
+            for (char key = 'a'; key < 'e'; key++) {
+                assertEquals(scan(key), index.get(key));
+            }
+        }
+    }
+
+    private BitSet scan(char key) {
+        BitSet positions = new BitSet();
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).charAt(0) == key) {
+                positions.set(i);
+            }
+        }
+        return positions;
+    }
+
+    private static BitSet bitSetOf(int... positions) {
+        BitSet bitSet = new BitSet();
+        Arrays.stream(positions).forEach(bitSet::set);
+        return bitSet;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class UniquenessUtilTest {
+
+    @Test
+    public void findDuplicates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UniquenessUtil.findDuplicates(null, Function.identity()));
+        assertThrows(NullPointerException.class, () ->
+                UniquenessUtil.findDuplicates(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void findDuplicates_uniqueKeys_returnsEmptyList() {
+        assertTrue(UniquenessUtil.findDuplicates(Arrays.asList("a", "b", "c"), Function.identity()).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_repeatedKeys_reportsEveryDuplicateWithFirstPosition() {
+        assertEquals(Arrays.asList("a at positions 1 and 3", "a at positions 1 and 4", "b at positions 2 and 5"),
+                UniquenessUtil.findDuplicates(Arrays.asList("a", "b", "a", "a", "b"), Function.identity()));
+    }
+
+    @Test
+    public void findDuplicates_keyFunction_comparesByKey() {
+        assertEquals(Arrays.asList("A at positions 1 and 2"),
+                UniquenessUtil.findDuplicates(Arrays.asList("apple", "avocado", "banana"),
+                    word -> Character.toUpperCase(word.charAt(0))));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveWorkerTest {
+
+    private final CountDownLatch writeStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseWrites = new CountDownLatch(1);
+    private final List<ReadOnlyAddressBook> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void submit_burstDuringWrite_onlyLatestWrittenAfterCurrentWrite() throws Exception {
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(new BlockingStorageStub(null));
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+
+        worker.submit(first);
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        worker.submit(second);
+        worker.submit(third);
+        releaseWrites.countDown();
+        worker.close();
+
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(third, written.get(1));
+    }
+
+    @Test
+    public void submit_writeFails_failureReported() {
+        IOException exception = new IOException("disk full");
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(new BlockingStorageStub(exception));
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        worker.setFailureHandler(failures::add);
+        releaseWrites.countDown();
+
+        worker.submit(new AddressBook());
+        worker.close();
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void submit_writeThrowsUncheckedException_failureReported() {
+        IllegalStateException exception = new IllegalStateException("corrupt snapshot");
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(new BlockingStorageStub(exception));
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        worker.setFailureHandler(failures::add);
+        releaseWrites.countDown();
+
+        worker.submit(new AddressBook());
+        worker.close();
+        assertEquals(1, failures.size());
+        assertSame(exception, failures.get(0).getCause());
+    }
+
+    /**
+     * A stub that records the address books written, holding each write until {@code releaseWrites} is opened.
+     */
+    private class BlockingStorageStub extends JsonAddressBookStorage {
+        private final Exception failure;
+
+        BlockingStorageStub(Exception failure) {
+            super(Path.of("unused.json"));
+            this.failure = failure;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            written.add(addressBook);
+        }
+    }
+}
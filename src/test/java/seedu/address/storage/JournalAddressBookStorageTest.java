@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        addressBook = getTypicalAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_onlyChangesJournalled() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // unchanged data is not written again
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(CARL);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        addressBook.addAppointment(new AppointmentBuilder().withId(addressBook.generateId().toString())
+                .withName(ALICE.getName().fullName).withDateTime("01-01-3099 0900").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // unchanged persons are not journalled
+        assertFalse(Files.readString(journalPath).contains(DANIEL.getName().fullName));
+        assertSameData(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personMovedPastAddedPerson_orderReplayed() throws Exception {
+        addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(List.of(BENSON, HOON, ALICE), new JournalAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1, true);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertSameData(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // the snapshot is written through a temporary file that replaces it
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_notPrettyPrinted_singleLineSnapshot() throws Exception {
+        new JournalAddressBookStorage(filePath, JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, false)
+                .saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertSameData(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_afterRead_changesJournalledAgainstReadData() throws Exception {
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(journalPath));
+        assertSameData(readBack, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastSave_saveIgnored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalPath, "[{\"op\":\"putPerson\",\"ind", StandardOpenOption.APPEND);
+
+        assertSameData(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_saveCutBetweenItsRecords_wholeSaveIgnored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook beforeRename = new AddressBook(addressBook);
+
+        // renaming a person deletes it and puts it back under its new name
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(journalPath);
+        int lastSave = journal.stripTrailing().lastIndexOf(System.lineSeparator()) + 1;
+        int endOfFirstRecord = journal.indexOf("},{", lastSave) + 1;
+        assertTrue(endOfFirstRecord > lastSave);
+        Files.writeString(journalPath, journal.substring(0, endOfFirstRecord));
+
+        assertSameData(beforeRename, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.writeString(journalPath,
+                "[{\"op\":\"renamePerson\"}]\n[{\"op\":\"deletePerson\",\"key\":\"Carl Kurz\"}]\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+
+        Files.writeString(journalPath, "not json\n[{\"op\":\"deletePerson\",\"key\":\"Carl Kurz\"}]\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(new HashSet<>(expected.getAppointmentList()), new HashSet<>(actual.getAppointmentList()));
+        assertEquals(expected.getNextAppointmentId(), actual.getNextAppointmentId());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalReplayTest {
+
+    @Test
+    public void putPerson_existingName_replacedInPlace() {
+        JournalReplay replay = new JournalReplay(addressBookOf(List.of(ALICE, BENSON, CARL)));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        replay.putPerson(1, editedBenson);
+        replay.endSave();
+
+        assertEquals(List.of(ALICE, editedBenson, CARL), replay.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void endSave_newPersons_insertedAtTheirIndexes() {
+        JournalReplay replay = new JournalReplay(addressBookOf(List.of(ALICE, BENSON, CARL)));
+        replay.deletePerson(ALICE.getName());
+        replay.putPerson(0, HOON);
+        replay.putPerson(2, ALICE);
+        replay.putPerson(4, DANIEL);
+        replay.endSave();
+        assertEquals(List.of(HOON, BENSON, ALICE, CARL, DANIEL), replay.toAddressBook().getPersonList());
+
+        replay.putPerson(5, IDA);
+        replay.endSave();
+        assertEquals(List.of(HOON, BENSON, ALICE, CARL, DANIEL, IDA), replay.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void deletePerson_putInSameSave_notInserted() {
+        JournalReplay replay = new JournalReplay(addressBookOf(List.of(ALICE)));
+        replay.putPerson(0, HOON);
+        replay.deletePerson(HOON.getName());
+        replay.endSave();
+
+        assertEquals(List.of(ALICE), replay.toAddressBook().getPersonList());
+    }
+
+    private static AddressBook addressBookOf(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedAppointment.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.MEETING_APPT;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDateTime;
 import seedu.address.model.appointment.AppointmentLength;
 import seedu.address.model.appointment.AppointmentLocation;
@@ -36,6 +38,15 @@ public class JsonAdaptedAppointmentTest {
         assertEquals(MEETING_APPT, appt.toModelType(VALID_NAME));
     }
 
+    @Test
+    public void toModelType_sameValuesLoadedTwice_valuesShared() throws Exception {
+        Appointment first = new JsonAdaptedAppointment(MEETING_APPT).toModelType(VALID_NAME);
+        Appointment second = new JsonAdaptedAppointment(MEETING_APPT).toModelType(VALID_NAME);
+        assertSame(first.getStatus(), second.getStatus());
+        assertSame(first.getType(), second.getType());
+        assertSame(first.getLocation(), second.getLocation());
+    }
+
     @Test
     public void toModelType_invalidDateTime_throwsIllegalValueException() {
         JsonAdaptedAppointment appt = new JsonAdaptedAppointment(
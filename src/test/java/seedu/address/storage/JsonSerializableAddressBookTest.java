@@ -3,14 +3,20 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.AppointmentIdAllocator;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -23,6 +29,10 @@ public class JsonSerializableAddressBookTest {
             .resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER
             .resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_APPOINTMENT_ID_FILE = TEST_DATA_FOLDER
+            .resolve("duplicateAppointmentIdAddressBook.json");
+    private static final Path INVALID_NEXT_APPOINTMENT_ID_FILE = TEST_DATA_FOLDER
+            .resolve("invalidNextAppointmentIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -48,4 +58,56 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateAppointmentIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_APPOINTMENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidNextAppointmentId_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_NEXT_APPOINTMENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, AppointmentIdAllocator.MESSAGE_CONSTRAINTS,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.parseJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::readFrom).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readFrom_invalidFiles_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.parseJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook::readFrom));
+        assertThrows(DataLoadingException.class, () -> JsonUtil.parseJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook::readFrom));
+        assertThrows(DataLoadingException.class, () -> JsonUtil.parseJsonFile(DUPLICATE_APPOINTMENT_ID_FILE,
+                JsonSerializableAddressBook::readFrom));
+        assertThrows(DataLoadingException.class, () -> JsonUtil.parseJsonFile(INVALID_NEXT_APPOINTMENT_ID_FILE,
+                JsonSerializableAddressBook::readFrom));
+    }
+
+    @Test
+    public void readFrom_unknownFieldsAndMissingCounter_fieldsIgnored() throws Exception {
+        AddressBook addressBook = readFrom("{\"version\": {\"major\": [1, 2]}, \"persons\": [], \"extra\": null}");
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void readFrom_notAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> readFrom("[]"));
+        assertThrows(IOException.class, () -> readFrom("{\"persons\": [1]}"));
+    }
+
+    private static AddressBook readFrom(String json) throws Exception {
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(json)) {
+            return JsonSerializableAddressBook.readFrom(parser);
+        }
+    }
 }
@@ -2,10 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -14,6 +20,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AppointmentBuilder;
 
 public class StorageManagerTest {
 
@@ -29,6 +36,11 @@ public class StorageManagerTest {
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        storageManager.close();
+    }
+
     private Path getTempFilePath(String fileName) {
         return testFolder.resolve(fileName);
     }
@@ -60,6 +72,33 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookSaveInBackground_modifiedAfterSave_savedAsAtSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addAppointment(new AppointmentBuilder().withName(ALICE.getName().fullName).build());
+        AddressBook expected = new AddressBook(original);
+
+        storageManager.saveAddressBookInBackground(original);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storageManager.flushAddressBook();
+
+        // appointments are saved with their clients, so only the persons are read back in the same order
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(expected.getPersonList(), new AddressBook(retrieved).getPersonList());
+        assertEquals(new HashSet<>(expected.getAppointmentList()), new HashSet<>(retrieved.getAppointmentList()));
+    }
+
+    @Test
+    public void close_pendingBackgroundSave_savedBeforeClosing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original);
+        storageManager.close();
+
+        assertEquals(original.getPersonList(), storageManager.readAddressBook().get().getPersonList());
+        assertThrows(RejectedExecutionException.class, () -> storageManager.saveAddressBookInBackground(original));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
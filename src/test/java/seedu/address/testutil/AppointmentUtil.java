@@ -0,0 +1,17 @@
+package seedu.address.testutil;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * A utility class for Appointment.
+ */
+public class AppointmentUtil {
+
+    /**
+     * Returns an appointment at {@code dateTime} lasting {@code length} minutes, whose id is its date and time,
+     * for tests that only depend on the times of appointments.
+     */
+    public static Appointment appointmentAt(String dateTime, String length) {
+        return new AppointmentBuilder().withId(dateTime).withDateTime(dateTime).withLength(length).build();
+    }
+}